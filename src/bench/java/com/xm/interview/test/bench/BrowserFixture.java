@@ -0,0 +1,57 @@
+package com.xm.interview.test.bench;
+
+import com.xm.interview.test.base.BrowserProfile;
+import com.xm.interview.test.base.WebDriverFactory;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.standin.StandInServer;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The BrowserFixture class starts a stand-in server and a headless browser for the browser-backed benchmarks,
+ * so they always run against the same local HTML fixtures.
+ */
+final class BrowserFixture {
+    final StandInServer server;
+    final WebDriver driver;
+
+    private BrowserFixture(StandInServer server, WebDriver driver) {
+        this.server = server;
+        this.driver = driver;
+    }
+
+    /**
+     * Starts the stand-in server and a headless browser, and opens the run context of the calling thread.
+     *
+     * @param browser The type of browser to launch.
+     * @return The running fixture.
+     */
+    static BrowserFixture open(String browser) {
+        StandInServer server = StandInServer.start(0, 0, 0);
+        WebDriver driver = WebDriverFactory.getDriver(browser, BrowserProfile.PERFORMANCE);
+        if (driver == null) {
+            server.stop();
+            throw new IllegalStateException("Failed to initialize the WebDriver for " + browser);
+        }
+        RunContext.open(browser, driver);
+        return new BrowserFixture(server, driver);
+    }
+
+    /**
+     * Returns the absolute URL of a stand-in page.
+     *
+     * @param path The path of the page.
+     * @return The URL.
+     */
+    String url(String path) {
+        return server.baseUrl() + path;
+    }
+
+    /**
+     * Quits the browser, stops the server and closes the run context.
+     */
+    void close() {
+        RunContext.close();
+        driver.quit();
+        server.stop();
+    }
+}
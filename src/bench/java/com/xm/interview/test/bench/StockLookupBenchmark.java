@@ -0,0 +1,59 @@
+package com.xm.interview.test.bench;
+
+import com.xm.interview.test.pages.CommonPages;
+import com.xm.interview.test.project.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The StockLookupBenchmark class measures findStockData against the stand-in stocks page, including the
+ * pagination it needs. The page is reloaded before every invocation so each lookup starts from the first page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StockLookupBenchmark {
+
+    @Param({"chrome"})
+    public String browser;
+
+    private BrowserFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BrowserFixture.open(browser);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadFilteredTable() {
+        fixture.driver.get(fixture.url("/stocks"));
+        CommonPages.applyFilter(fixture.driver, Config.country);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Map<String, String> findStockData() {
+        return CommonPages.findStockData(fixture.driver, Config.symbolName);
+    }
+}
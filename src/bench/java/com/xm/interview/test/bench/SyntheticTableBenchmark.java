@@ -0,0 +1,113 @@
+package com.xm.interview.test.bench;
+
+import com.xm.interview.test.compare.ComparisonReport;
+import com.xm.interview.test.compare.DataComparator;
+import com.xm.interview.test.pages.CommonPages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SyntheticTableBenchmark class measures the in-memory matching code on synthetic tables of 10 to 100k rows,
+ * without a browser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyntheticTableBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int rows;
+
+    private List<Map<String, String>> entries;
+    private String lastSymbol;
+    private Map<String, String> entry;
+    private Map<String, String> tradingConditions;
+    private Map<String, Map<String, String>> entriesBySymbol;
+    private Map<String, Map<String, String>> conditionsBySymbol;
+
+    @Setup
+    public void setUp() {
+        entries = SyntheticTables.stocks(rows);
+        lastSymbol = SyntheticTables.symbolName(rows - 1);
+        entry = SyntheticTables.stock(0);
+        tradingConditions = SyntheticTables.tradingConditions(rows);
+        entriesBySymbol = new LinkedHashMap<>();
+        conditionsBySymbol = new LinkedHashMap<>();
+        Map<String, String> conditions = SyntheticTables.tradingConditions(10);
+        for (Map<String, String> row : entries) {
+            String symbol = row.get("Symbol / Description");
+            entriesBySymbol.put(symbol, row);
+            conditionsBySymbol.put(symbol, conditions);
+        }
+    }
+
+    /**
+     * The symbol search of findStockData when the symbol is in the last row.
+     */
+    @Benchmark
+    public Map<String, String> findStockDataWorstCase() {
+        return CommonPages.findEntry(entries, lastSymbol);
+    }
+
+    /**
+     * The exact nested-loop matching against a trading conditions map of the benchmarked size.
+     */
+    @Benchmark
+    public List<String[]> compareDataNestedLoop() {
+        return findMatches(entry, tradingConditions);
+    }
+
+    /**
+     * The indexed, normalized comparison of compareData against a trading conditions map of the benchmarked size.
+     */
+    @Benchmark
+    public ComparisonReport compareDataIndexed() {
+        return DataComparator.compare("SYM0.OL", entry, tradingConditions);
+    }
+
+    /**
+     * A batch comparison of as many symbols as the benchmarked size, each against its own trading conditions.
+     */
+    @Benchmark
+    public List<ComparisonReport> compareAllSymbols() {
+        return DataComparator.compareAll(entriesBySymbol, conditionsBySymbol);
+    }
+
+    /**
+     * Finds the values shared by a table entry and the trading conditions with an exact nested-loop comparison,
+     * the baseline of {@link DataComparator}.
+     *
+     * @param entry             The table entry of the stock.
+     * @param tradingConditions The trading conditions of the stock.
+     * @return The matches as arrays of {entry column, trading conditions header, common value}.
+     */
+    private static List<String[]> findMatches(Map<String, String> entry, Map<String, String> tradingConditions) {
+        List<String[]> matches = new ArrayList<>();
+        for (Map.Entry<String, String> stockEntry : entry.entrySet()) {
+            for (Map.Entry<String, String> tradingEntry : tradingConditions.entrySet()) {
+                if (stockEntry.getValue().equals(tradingEntry.getValue())) {
+                    matches.add(new String[]{stockEntry.getKey(), tradingEntry.getKey(), stockEntry.getValue()});
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,80 @@
+package com.xm.interview.test.bench;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SyntheticTables class builds in-memory stock tables shaped like the rows extracted from the stocks page.
+ */
+final class SyntheticTables {
+
+    private SyntheticTables() {
+    }
+
+    /**
+     * Builds a table of the given size.
+     *
+     * @param rows The number of rows.
+     * @return The rows, keyed by the same headers as the stocks table.
+     */
+    static List<Map<String, String>> stocks(int rows) {
+        List<Map<String, String>> table = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            table.add(stock(i));
+        }
+        return table;
+    }
+
+    /**
+     * Builds the row of the stock with the given index.
+     *
+     * @param index The index of the stock.
+     * @return The row data.
+     */
+    static Map<String, String> stock(int index) {
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("Symbol / Description", symbolName(index));
+        row.put("Min Spread", String.format("%.2f", 0.02 * (index % 7 + 1)));
+        row.put("Min/Max Trade Size", "1/" + (2500 * (index % 4 + 1)));
+        row.put("Margin Percentage", (5 * (index % 4 + 1)) + "%");
+        row.put("Long Swap Value", String.format("%.2f", -0.05 * (index % 5 + 1)));
+        row.put("Short Swap Value", String.format("%.2f", -0.01 * (index % 3 + 1)));
+        row.put("Limit and Stop Levels", String.format("%.2f", 0.1 * (index % 3 + 1)));
+        row.put("", "Read more");
+        row.put("ReadmoreHref", "https://www.xm.com/stocks/sym" + index + "-ol");
+        return row;
+    }
+
+    /**
+     * Returns the symbol cell text of the stock with the given index.
+     *
+     * @param index The index of the stock.
+     * @return The symbol cell text.
+     */
+    static String symbolName(int index) {
+        return "Company " + index + " ASA (SYM" + index + ".OL)";
+    }
+
+    /**
+     * Builds a trading conditions map with the given number of headers, a few of which share values with
+     * the row of the stock with index 0.
+     *
+     * @param size The number of trading condition headers.
+     * @return The trading conditions.
+     */
+    static Map<String, String> tradingConditions(int size) {
+        Map<String, String> stock = stock(0);
+        Map<String, String> conditions = new LinkedHashMap<>();
+        conditions.put("Symbols", "SYM0.OL");
+        conditions.put("Minimum Spread", stock.get("Min Spread"));
+        conditions.put("Minimum/Maximum Trade Size", stock.get("Min/Max Trade Size"));
+        conditions.put("Margin Requirement", stock.get("Margin Percentage"));
+        conditions.put("Swap Value in Margin Currency Long", stock.get("Long Swap Value"));
+        for (int i = conditions.size(); i < size; i++) {
+            conditions.put("Condition " + i, "value " + i);
+        }
+        return conditions;
+    }
+}
@@ -0,0 +1,81 @@
+package com.xm.interview.test.bench;
+
+import com.xm.interview.test.pages.CommonPages;
+import com.xm.interview.test.project.Config;
+import com.xm.interview.test.project.TableExtraction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TableExtractionBenchmark class measures the extraction of the filtered stocks table from the stand-in page
+ * in a headless browser, per extraction strategy, together with the XPath and CSS locators of its rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableExtractionBenchmark {
+
+    @Param({"chrome"})
+    public String browser;
+
+    @Param({"ELEMENT", "SCRIPT"})
+    public TableExtraction mode;
+
+    private BrowserFixture fixture;
+    private List<String> headers;
+    private WebElement firstRow;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BrowserFixture.open(browser);
+        fixture.driver.get(fixture.url("/stocks"));
+        CommonPages.applyFilter(fixture.driver, Config.country);
+        headers = CommonPages.extractTableHeaders(fixture.driver);
+        firstRow = fixture.driver.findElement(By.cssSelector("#DataTables_Table_0 > tbody > tr"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> extractTableData() {
+        return CommonPages.extractTableData(fixture.driver, headers, mode);
+    }
+
+    @Benchmark
+    public Map<String, String> extractRowData() {
+        return CommonPages.extractRowData(firstRow, headers);
+    }
+
+    @Benchmark
+    public List<WebElement> locateRowsByXPath() {
+        return fixture.driver.findElements(By.xpath(".//*[@id='DataTables_Table_0']/tbody/tr"));
+    }
+
+    @Benchmark
+    public List<WebElement> locateRowsByCss() {
+        return fixture.driver.findElements(By.cssSelector("#DataTables_Table_0 > tbody > tr"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.xm.interview.test.bench;
+
+import com.xm.interview.test.pages.CommonPages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TradingConditionsBenchmark class measures extractTradingConditions on the stand-in trading-conditions page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TradingConditionsBenchmark {
+
+    @Param({"chrome"})
+    public String browser;
+
+    private BrowserFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = BrowserFixture.open(browser);
+        fixture.driver.get(fixture.url("/stocks/ork-ol"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Map<String, String> extractTradingConditions() {
+        return CommonPages.extractTradingConditions(fixture.driver);
+    }
+}
@@ -1,43 +1,115 @@
 package com.xm.interview.test.base;
 
+import com.xm.interview.test.feed.FeedCapture;
+import com.xm.interview.test.metrics.CommandBudget;
+import com.xm.interview.test.metrics.PageLoadTimes;
 import com.xm.interview.test.project.Config;
-import org.junit.After;
+import com.xm.interview.test.project.EntrySource;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.project.TableExtraction;
+import com.xm.interview.test.standin.StandInServer;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.openqa.selenium.WebDriver;
-import org.testng.annotations.AfterTest;
-import org.testng.annotations.BeforeTest;
 
 import java.util.logging.Logger;
 
 public class BaseTest {
-    protected static WebDriver driver;
+    protected WebDriver driver;
     private static final Logger logger = Logger.getLogger(BaseTest.class.getName());
 
     /**
-     * Sets up the test environment by initializing the WebDriver instance.
+     * Sets up the test environment by initializing the WebDriver instance of the browser selected by the
+     * {@code Browser} system property and opening the run context of the current thread.
      *
      * @throws RuntimeException if failed to initialize the WebDriver
      */
     @BeforeClass
     public static void setUp() {
-        String browserDriver = System.getProperty("Browser", "chrome");
-        driver = WebDriverFactory.getDriver(browserDriver);
-        if (driver == null) {
+        openRun(System.getProperty("Browser", "chrome"));
+    }
+
+    /**
+     * Initializes a WebDriver instance and opens the run context of the current thread for it.
+     * When {@link WebDriverPool#isEnabled()} the session is leased from the pool instead of launched,
+     * and when {@link Config#standIn} is set the local stand-in server is started first.
+     * When {@link ConsentManager#isEnabled()} the captured cookie consent is seeded into the session,
+     * and with {@link EntrySource#NETWORK_FEED} the capture of the table data feed is armed on the new session.
+     *
+     * @param browserDriver The type of browser to be used.
+     * @return The opened run context.
+     * @throws RuntimeException if failed to initialize the WebDriver
+     */
+    public static RunContext openRun(String browserDriver) {
+        if (Config.standIn) {
+            StandInServer.shared();
+        }
+        WebDriver webDriver = WebDriverPool.isEnabled()
+                ? WebDriverPool.lease(browserDriver)
+                : WebDriverFactory.getDriver(browserDriver);
+        if (webDriver == null) {
             logger.severe("Failed to initialize the WebDriver!");
             throw new RuntimeException("Failed to initialize the WebDriver!");
         }
-        Config.entriesSize = 0;
+        RunContext context = RunContext.open(browserDriver, webDriver);
+
+        if (ConsentManager.isEnabled()) {
+            ConsentManager.seed(webDriver, browserDriver, Config.websiteURL);
+        }
+
+        // The feed is requested when the stocks page loads, so the capture has to be in place before the first navigation
+        if (Config.entrySource == EntrySource.NETWORK_FEED) {
+            context.setFeedCapture(FeedCapture.start(webDriver));
+        }
+
+        // A script extraction reads a whole table page in a single call
+        if (Config.tableExtraction == TableExtraction.SCRIPT) {
+            CommandBudget.declare("extractTableData", 5);
+        }
+        return context;
+    }
+
+    /**
+     * Binds the WebDriver instance of the current run context to the test.
+     */
+    @Before
+    public void bindDriver() {
+        driver = RunContext.current().getDriver();
     }
 
     /**
-     * Cleans up the test environment by quitting the WebDriver instance.
+     * Cleans up the test environment by closing the run context of the current thread.
      */
     @AfterClass
     public static void tearDown() {
-        if (driver != null) {
-            driver.quit();
+        closeRun();
+    }
+
+    /**
+     * Quits the WebDriver instance of the current run context, or returns it to the pool, and closes the context.
+     */
+    public static void closeRun() {
+        if (RunContext.isOpen()) {
+            WebDriver webDriver = RunContext.current().getDriver();
+            FeedCapture feedCapture = RunContext.current().getFeedCapture();
+            if (feedCapture != null) {
+                feedCapture.close();
+            }
+            RunContext.close();
+            if (PageLoadTimes.isEnabled()) {
+                // Collect the load times of pages that were still loading when their step went on
+                try {
+                    PageLoadTimes.record(webDriver);
+                } catch (RuntimeException e) {
+                    logger.warning("Could not record the last page load times: " + e.getMessage());
+                }
+            }
+            if (WebDriverPool.isEnabled()) {
+                WebDriverPool.release(webDriver);
+            } else {
+                webDriver.quit();
+            }
         }
     }
 }
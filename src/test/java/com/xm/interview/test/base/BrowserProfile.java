@@ -0,0 +1,79 @@
+package com.xm.interview.test.base;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The BrowserProfile enum describes the launch settings applied to a browser on top of the defaults of
+ * {@link WebDriverFactory}. It is selected with the {@code Profile} system property.
+ */
+public enum BrowserProfile {
+    /**
+     * Launches a visible browser with the default page-load strategy.
+     */
+    DEFAULT,
+    /**
+     * Launches a headless browser with the eager page-load strategy, no images, no web fonts, no GPU
+     * and a fixed window size, so runs are faster and do not depend on the display.
+     */
+    PERFORMANCE;
+
+    private static final int WINDOW_WIDTH = 1920;
+    private static final int WINDOW_HEIGHT = 1080;
+
+    /**
+     * Resolves the browser profile from the {@code Profile} system property.
+     *
+     * @return The selected profile, {@link #DEFAULT} if the property is not set.
+     * @throws IllegalArgumentException if the property holds an unsupported value
+     */
+    public static BrowserProfile fromSystemProperty() {
+        String value = System.getProperty("Profile", "default");
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported browser profile: " + value);
+        }
+    }
+
+    /**
+     * Applies the profile to the options of a Chromium based browser (Chrome or Edge).
+     *
+     * @param options The options to update.
+     */
+    public void apply(ChromiumOptions<?> options) {
+        if (this != PERFORMANCE) {
+            return;
+        }
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        options.addArguments("--headless=new");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--disable-remote-fonts");
+        options.addArguments("--window-size=" + WINDOW_WIDTH + "," + WINDOW_HEIGHT);
+        Map<String, Object> prefs = new HashMap<>();
+        prefs.put("profile.managed_default_content_settings.images", 2);
+        options.setExperimentalOption("prefs", prefs);
+    }
+
+    /**
+     * Applies the profile to the options of Firefox.
+     *
+     * @param options The options to update.
+     */
+    public void apply(FirefoxOptions options) {
+        if (this != PERFORMANCE) {
+            return;
+        }
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        options.addArguments("-headless");
+        options.addArguments("--width=" + WINDOW_WIDTH);
+        options.addArguments("--height=" + WINDOW_HEIGHT);
+        options.addPreference("permissions.default.image", 2);
+        options.addPreference("gfx.downloadable_fonts.enabled", false);
+        options.addPreference("layers.acceleration.disabled", true);
+    }
+}
@@ -0,0 +1,301 @@
+package com.xm.interview.test.base;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * The ConsentManager class keeps the cookie consent of the site across sessions, so runs do not wait for a banner
+ * that was already accepted.
+ * <p>
+ * The consent cookies and localStorage entries, matched by {@code ConsentPattern}, are captured when the banner is
+ * accepted and stored per site in {@code ConsentStateFile}. With {@code -DConsentSeeding=true} they are seeded into
+ * every new session before its first page load: through CDP on Chrome and Edge, and by visiting the site once on
+ * Firefox. Whether a banner is shown is checked with a short DOM observer instead of a long element wait.
+ */
+public class ConsentManager {
+    private static final Logger logger = Logger.getLogger(ConsentManager.class.getName());
+    private static final Pattern CONSENT_PATTERN = Pattern.compile(System.getProperty("ConsentPattern", "(?i).*(consent|optanon|cookie|cmp).*"));
+    private static final Path STATE_FILE = Paths.get(System.getProperty("ConsentStateFile",
+            System.getProperty("java.io.tmpdir") + "/xm-ui-test/consent.json"));
+    private static final long GRACE_MILLIS = Long.getLong("ConsentBannerGraceMs", 1500);
+
+    /**
+     * Resolves true as soon as the banner button is visible. Otherwise it resolves false once the page has loaded
+     * and no banner appeared within the grace period given as first argument, or after the timeout given as second.
+     */
+    private static final String BANNER_PRESENT_SCRIPT =
+            "var grace = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "function visible() {" +
+            "  var el = document.querySelector('.acceptDefaultCookieFirstVisit');" +
+            "  return !!el && !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+            "}" +
+            "if (visible()) { done(true); return; }" +
+            "var finished = false, timers = [];" +
+            "var observer = new MutationObserver(function () { if (visible()) { finish(true); } });" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  timers.forEach(clearTimeout);" +
+            "  window.removeEventListener('load', arm);" +
+            "  done(result);" +
+            "}" +
+            "function arm() { timers.push(setTimeout(function () { finish(visible()); }, grace)); }" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, attributeFilter: ['class', 'style']});" +
+            "timers.push(setTimeout(function () { finish(visible()); }, timeout));" +
+            "if (document.readyState === 'complete') { arm(); } else { window.addEventListener('load', arm); }";
+
+    /**
+     * Returns every localStorage entry of the current page; the entries are matched against {@code ConsentPattern} in
+     * Java, whose syntax (such as its inline flags) is not understood by JavaScript.
+     */
+    private static final String READ_STORAGE_SCRIPT =
+            "var items = {};" +
+            "for (var i = 0; i < window.localStorage.length; i++) {" +
+            "  var key = window.localStorage.key(i);" +
+            "  items[key] = window.localStorage.getItem(key);" +
+            "}" +
+            "return items;";
+
+    private static final AtomicInteger seeded = new AtomicInteger();
+    private static final AtomicInteger bannersShown = new AtomicInteger();
+    private static final AtomicInteger bannersSkipped = new AtomicInteger();
+    private static final AtomicLong savedMillis = new AtomicLong();
+    private static Map<String, Object> state;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConsentManager::printSummary));
+    }
+
+    private ConsentManager() {}
+
+    /**
+     * Returns whether seeding was enabled through the {@code ConsentSeeding} system property.
+     *
+     * @return True if the consent should be seeded into new sessions, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("ConsentSeeding", "false"));
+    }
+
+    /**
+     * Checks whether the cookie banner is shown on the current page, waiting only as long as the page is still loading
+     * plus a short grace period.
+     *
+     * @param driver         The WebDriver instance.
+     * @param timeoutSeconds The longest time a full element wait for the banner would take.
+     * @return True if the banner is shown, false otherwise.
+     */
+    public static boolean isBannerPresent(WebDriver driver, int timeoutSeconds) {
+        long start = System.nanoTime();
+        boolean present;
+        try {
+            present = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(BANNER_PRESENT_SCRIPT, GRACE_MILLIS, timeoutSeconds * 1000L));
+        } catch (WebDriverException e) {
+            logger.warning("Could not check for the cookie banner: " + e.getMessage());
+            present = false;
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (present) {
+            bannersShown.incrementAndGet();
+        } else {
+            bannersSkipped.incrementAndGet();
+            savedMillis.addAndGet(Math.max(0, timeoutSeconds * 1000L - elapsedMillis));
+            System.out.println("No cookie banner after " + elapsedMillis + " ms");
+        }
+        return present;
+    }
+
+    /**
+     * Captures the consent cookies and localStorage entries of the current site, after the banner was accepted.
+     *
+     * @param driver The WebDriver instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void capture(WebDriver driver) {
+        try {
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (Cookie cookie : driver.manage().getCookies()) {
+                if (CONSENT_PATTERN.matcher(cookie.getName()).matches()) {
+                    Map<String, Object> values = new LinkedHashMap<>();
+                    values.put("name", cookie.getName());
+                    values.put("value", cookie.getValue());
+                    values.put("domain", cookie.getDomain());
+                    values.put("path", cookie.getPath());
+                    values.put("secure", cookie.isSecure());
+                    values.put("expiry", cookie.getExpiry() == null ? null : cookie.getExpiry().getTime() / 1000);
+                    cookies.add(values);
+                }
+            }
+            Map<String, Object> storage = new LinkedHashMap<>();
+            Object items = ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+            if (items instanceof Map) {
+                for (Map.Entry<String, Object> item : ((Map<String, Object>) items).entrySet()) {
+                    if (CONSENT_PATTERN.matcher(item.getKey()).matches()) {
+                        storage.put(item.getKey(), item.getValue());
+                    }
+                }
+            }
+            if (cookies.isEmpty() && storage.isEmpty()) {
+                return;
+            }
+            Map<String, Object> site = new LinkedHashMap<>();
+            site.put("cookies", cookies);
+            site.put("localStorage", storage);
+            state().put(origin(driver.getCurrentUrl()), site);
+            Files.createDirectories(STATE_FILE.getParent());
+            Files.write(STATE_FILE, new Json().toJson(state).getBytes(StandardCharsets.UTF_8));
+            System.out.println("Captured the cookie consent: " + cookies.size() + " cookies, " + storage.size() + " storage entries");
+        } catch (IOException | WebDriverException e) {
+            logger.warning("Could not capture the cookie consent: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Seeds the captured consent of the given site into a new session, before its first page load.
+     *
+     * @param driver      The WebDriver instance.
+     * @param browserType The type of browser the driver was created for.
+     * @param siteUrl     The URL of the site the session will visit.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void seed(WebDriver driver, String browserType, String siteUrl) {
+        String origin = origin(siteUrl);
+        Map<String, Object> site = (Map<String, Object>) state().get(origin);
+        if (site == null) {
+            System.out.println("No cookie consent captured yet for " + origin);
+            return;
+        }
+        List<Map<String, Object>> cookies = (List<Map<String, Object>>) site.get("cookies");
+        Map<String, Object> storage = (Map<String, Object>) site.get("localStorage");
+        try {
+            if (!"firefox".equalsIgnoreCase(browserType) && driver instanceof HasDevTools) {
+                seedCdp(((HasDevTools) driver).getDevTools(), origin, cookies, storage);
+            } else {
+                seedByVisit(driver, origin, cookies, storage);
+            }
+            seeded.incrementAndGet();
+            System.out.println("Seeded the cookie consent for " + origin);
+        } catch (WebDriverException e) {
+            logger.warning("Could not seed the cookie consent: " + e.getMessage());
+        }
+    }
+
+    private static void seedCdp(DevTools devTools, String origin, List<Map<String, Object>> cookies, Map<String, Object> storage) {
+        devTools.createSessionIfThereIsNotOne();
+        for (Map<String, Object> cookie : cookies) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("name", cookie.get("name"));
+            params.put("value", cookie.get("value"));
+            params.put("url", origin);
+            params.put("path", cookie.get("path") == null ? "/" : cookie.get("path"));
+            params.put("secure", cookie.get("secure"));
+            if (cookie.get("domain") != null) {
+                params.put("domain", cookie.get("domain"));
+            }
+            if (cookie.get("expiry") != null) {
+                params.put("expires", cookie.get("expiry"));
+            }
+            devTools.send(new Command<>("Network.setCookie", params));
+        }
+        if (!storage.isEmpty()) {
+            String source = "if (location.origin === " + new Json().toJson(origin) + ") {" +
+                    "  var items = " + new Json().toJson(storage) + ";" +
+                    "  for (var key in items) { if (window.localStorage.getItem(key) === null) { window.localStorage.setItem(key, items[key]); } }" +
+                    "}";
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument", Map.of("source", source)));
+        }
+    }
+
+    /**
+     * Cookies can only be added for the current domain without CDP, so a page of the site is opened first.
+     */
+    private static void seedByVisit(WebDriver driver, String origin, List<Map<String, Object>> cookies, Map<String, Object> storage) {
+        driver.get(origin + "/robots.txt");
+        for (Map<String, Object> cookie : cookies) {
+            Cookie.Builder builder = new Cookie.Builder(String.valueOf(cookie.get("name")), String.valueOf(cookie.get("value")))
+                    .path(cookie.get("path") == null ? "/" : String.valueOf(cookie.get("path")))
+                    .isSecure(Boolean.TRUE.equals(cookie.get("secure")));
+            if (cookie.get("expiry") != null) {
+                builder.expiresOn(new Date(((Number) cookie.get("expiry")).longValue() * 1000));
+            }
+            driver.manage().addCookie(builder.build());
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "for (var key in arguments[0]) { window.localStorage.setItem(key, arguments[0][key]); }", storage);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> state() {
+        if (state == null) {
+            state = new LinkedHashMap<>();
+            if (Files.isRegularFile(STATE_FILE)) {
+                try {
+                    state.putAll(new Json().toType(new String(Files.readAllBytes(STATE_FILE), StandardCharsets.UTF_8), Json.MAP_TYPE));
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Could not read the cookie consent state " + STATE_FILE + ": " + e.getMessage());
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the consent captured for the given site, as stored in {@code ConsentStateFile}.
+     *
+     * @param siteUrl The URL of the site.
+     * @return The captured cookies and localStorage entries, or null if none were captured.
+     */
+    @SuppressWarnings("unchecked")
+    static synchronized Map<String, Object> captured(String siteUrl) {
+        return (Map<String, Object>) state().get(origin(siteUrl));
+    }
+
+    /**
+     * Removes the consent captured for the given site from {@code ConsentStateFile}.
+     *
+     * @param siteUrl The URL of the site.
+     * @throws IOException if the state file cannot be written
+     */
+    static synchronized void forget(String siteUrl) throws IOException {
+        if (state().remove(origin(siteUrl)) != null) {
+            Files.write(STATE_FILE, new Json().toJson(state).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static void printSummary() {
+        if (bannersShown.get() + bannersSkipped.get() == 0) {
+            return;
+        }
+        System.out.println("Cookie consent: " + seeded.get() + " sessions seeded, banner shown " + bannersShown.get()
+                + " times, absent " + bannersSkipped.get() + " times, " + savedMillis.get() + " ms saved against the full banner wait");
+    }
+}
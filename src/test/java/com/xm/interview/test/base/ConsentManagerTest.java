@@ -0,0 +1,68 @@
+package com.xm.interview.test.base;
+
+import com.xm.interview.test.standin.StandInServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ConsentManagerTest class verifies, against the stand-in server, that the consent accepted in one session is
+ * captured with the default {@code ConsentPattern} and seeded into the next one.
+ */
+public class ConsentManagerTest {
+    private static final String BROWSER = System.getProperty("Browser", "chrome");
+    private static StandInServer server;
+
+    @BeforeClass
+    public static void startServer() {
+        server = StandInServer.start(0, 0, 0);
+    }
+
+    @AfterClass
+    public static void stopServer() throws IOException {
+        ConsentManager.forget(server.baseUrl());
+        server.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void seedsTheConsentCapturedInAnEarlierSession() {
+        String siteUrl = server.baseUrl();
+
+        WebDriver first = WebDriverFactory.getDriver(BROWSER);
+        Assert.assertNotNull("Failed to initialize the WebDriver!", first);
+        try {
+            first.get(siteUrl);
+            Assert.assertTrue("Expected the cookie banner on a new session", ConsentManager.isBannerPresent(first, 5));
+            first.findElement(By.cssSelector(".acceptDefaultCookieFirstVisit")).click();
+            ConsentManager.capture(first);
+        } finally {
+            first.quit();
+        }
+
+        Map<String, Object> site = ConsentManager.captured(siteUrl);
+        Assert.assertNotNull("No cookie consent captured for " + siteUrl, site);
+        List<Map<String, Object>> cookies = (List<Map<String, Object>>) site.get("cookies");
+        Assert.assertTrue(cookies.stream().anyMatch(cookie -> "xm_cookie_consent".equals(cookie.get("name"))));
+        Assert.assertEquals("accepted", ((Map<String, Object>) site.get("localStorage")).get("xm_cookie_consent"));
+
+        WebDriver second = WebDriverFactory.getDriver(BROWSER);
+        Assert.assertNotNull("Failed to initialize the WebDriver!", second);
+        try {
+            ConsentManager.seed(second, BROWSER, siteUrl);
+            second.get(siteUrl);
+
+            Assert.assertNotNull(second.manage().getCookieNamed("xm_cookie_consent"));
+            Assert.assertFalse("Expected no cookie banner after seeding", ConsentManager.isBannerPresent(second, 5));
+        } finally {
+            second.quit();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.xm.interview.test.base;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The DriverBinaryResolver class resolves the driver binary of a browser once per JVM and caches the result on disk,
+ * so later runs on the same agent can skip WebDriverManager while the installed browser version is unchanged.
+ * <p>
+ * {@code -DDriverDir=/path/to/drivers} switches to a fully offline mode that only looks for the driver in that directory.
+ * {@code -DDriverCacheDir} changes where the resolution cache is stored.
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = Logger.getLogger(DriverBinaryResolver.class.getName());
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+(\\.\\d+)+)");
+    private static final Path CACHE_FILE = Paths.get(
+            System.getProperty("DriverCacheDir", System.getProperty("user.home") + File.separator + ".cache" + File.separator + "xm-ui-test"),
+            "drivers.properties");
+
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {}
+
+    /**
+     * Makes the driver binary of the given browser type available to Selenium.
+     *
+     * @param browserType The type of browser to be used.
+     * @throws IllegalArgumentException if the browser type is not supported
+     * @throws IllegalStateException    if offline mode is enabled and the driver is missing from the driver directory
+     */
+    public static synchronized void setup(String browserType) {
+        String browser = browserType.toLowerCase();
+        if (RESOLVED.containsKey(browser)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        String source;
+        String driverPath;
+        String driverDir = System.getProperty("DriverDir");
+        if (driverDir != null && !driverDir.isEmpty()) {
+            driverPath = findOfflineDriver(browser, Paths.get(driverDir));
+            source = "offline directory";
+        } else {
+            Properties cache = loadCache();
+            String browserVersion = detectBrowserVersion(browser);
+            String cachedPath = cache.getProperty(browser + ".driverPath");
+            String cachedVersion = cache.getProperty(browser + ".browserVersion");
+            if (browserVersion != null && browserVersion.equals(cachedVersion)
+                    && cachedPath != null && Files.isExecutable(Paths.get(cachedPath))) {
+                driverPath = cachedPath;
+                source = "disk cache";
+            } else {
+                WebDriverManager manager = manager(browser);
+                manager.setup();
+                driverPath = manager.getDownloadedDriverPath();
+                source = "WebDriverManager";
+                if (driverPath != null && browserVersion != null) {
+                    cache.setProperty(browser + ".driverPath", driverPath);
+                    cache.setProperty(browser + ".browserVersion", browserVersion);
+                    saveCache(cache);
+                }
+            }
+        }
+
+        if (driverPath != null) {
+            System.setProperty(driverProperty(browser), driverPath);
+            RESOLVED.put(browser, driverPath);
+        }
+        System.out.println("Driver setup for " + browser + " took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                + " ms (source: " + source + ")");
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("Unsupported browser type: " + browser);
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new IllegalArgumentException("Unsupported browser type: " + browser);
+        }
+    }
+
+    private static String driverBinaryName(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "chromedriver";
+            case "firefox":
+                return "geckodriver";
+            case "edge":
+                return "msedgedriver";
+            default:
+                throw new IllegalArgumentException("Unsupported browser type: " + browser);
+        }
+    }
+
+    private static String findOfflineDriver(String browser, Path driverDir) {
+        String binary = driverBinaryName(browser);
+        for (String name : new String[]{binary, binary + ".exe"}) {
+            Path candidate = driverDir.resolve(name);
+            if (Files.isRegularFile(candidate)) {
+                return candidate.toAbsolutePath().toString();
+            }
+        }
+        throw new IllegalStateException("No " + binary + " found in offline driver directory: " + driverDir);
+    }
+
+    /**
+     * Detects the installed browser version by running the browser binary with {@code --version}.
+     * Returns null if the browser or its version cannot be found, in which case the cache is bypassed.
+     */
+    private static String detectBrowserVersion(String browser) {
+        try {
+            Optional<Path> browserPath = manager(browser).getBrowserPath();
+            if (!browserPath.isPresent()) {
+                return null;
+            }
+            // Write the output to a file rather than reading a pipe, so a binary that keeps its output open
+            // (e.g. chrome.exe opening a window on Windows) cannot block the timeout below
+            Path outputFile = Files.createTempFile("browser-version", ".txt");
+            try {
+                Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                        .redirectErrorStream(true)
+                        .redirectOutput(outputFile.toFile())
+                        .start();
+                if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                    logger.warning(browserPath.get() + " --version did not exit within 5 seconds");
+                    process.destroyForcibly();
+                }
+                Matcher matcher = VERSION_PATTERN.matcher(new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8));
+                return matcher.find() ? matcher.group(1) : null;
+            } finally {
+                Files.deleteIfExists(outputFile);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not detect the " + browser + " version: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Properties loadCache() {
+        Properties cache = new Properties();
+        if (Files.isRegularFile(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                cache.load(in);
+            } catch (IOException e) {
+                logger.warning("Could not read the driver cache " + CACHE_FILE + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static void saveCache(Properties cache) {
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                cache.store(out, "Resolved WebDriver binaries");
+            }
+        } catch (IOException e) {
+            logger.warning("Could not write the driver cache " + CACHE_FILE + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.xm.interview.test.base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The RequestBlocker class keeps the browser from loading third-party analytics, chat widgets and ad pixels,
+ * so page loads do not wait on requests the tests never look at.
+ * <p>
+ * Blocking is enabled with {@code -DBlockThirdParty=true}. The URL patterns, with {@code *} as wildcard, are read from
+ * the comma-separated {@code BlockedUrls} system property and default to {@link #DEFAULT_PATTERNS}. Chrome and Edge
+ * block through CDP {@code Network.setBlockedURLs}, Firefox through a proxy auto-config script, see {@link #configure}.
+ * Blocked requests are counted per path of the page that issued them.
+ */
+public class RequestBlocker {
+    private static final Logger logger = Logger.getLogger(RequestBlocker.class.getName());
+
+    /**
+     * The third-party hosts blocked when no {@code BlockedUrls} are given.
+     */
+    public static final List<String> DEFAULT_PATTERNS = Collections.unmodifiableList(Arrays.asList(
+            "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*googleadservices.com*",
+            "*facebook.net*", "*connect.facebook.com*", "*hotjar.com*", "*clarity.ms*", "*bat.bing.com*",
+            "*livechatinc.com*", "*zopim.com*", "*zdassets.com*", "*intercom.io*", "*tiktok.com*", "*twitter.com/i/*"));
+
+    /**
+     * The proxy blocked Firefox requests are sent to: the discard port of the loopback interface, where nothing listens.
+     */
+    private static final String DISCARD_PROXY = "127.0.0.1:9";
+
+    private static final Map<String, AtomicInteger> BLOCKED = new ConcurrentHashMap<>();
+
+    private RequestBlocker() {}
+
+    /**
+     * Returns whether request blocking was enabled through the {@code BlockThirdParty} system property.
+     *
+     * @return True if third-party requests should be blocked, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("BlockThirdParty", "false"));
+    }
+
+    /**
+     * Returns the URL patterns to block.
+     *
+     * @return The patterns, with {@code *} matching any sequence of characters.
+     */
+    public static List<String> patterns() {
+        String value = System.getProperty("BlockedUrls", "").trim();
+        if (value.isEmpty()) {
+            return DEFAULT_PATTERNS;
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(p -> !p.isEmpty()).collect(Collectors.toList());
+    }
+
+    /**
+     * Installs the blocklist on a new session.
+     *
+     * @param driver      The WebDriver instance.
+     * @param browserType The type of browser the driver was created for.
+     */
+    public static void install(WebDriver driver, String browserType) {
+        List<String> patterns = patterns();
+        try {
+            if ("firefox".equalsIgnoreCase(browserType)) {
+                installBiDi(driver, patterns);
+            } else {
+                installCdp(driver, patterns);
+            }
+            System.out.println("Blocking " + patterns.size() + " third-party URL patterns");
+        } catch (RuntimeException e) {
+            logger.warning("Could not install the request blocklist: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks the requests of a Chrome or Edge session through CDP. The page of a blocked request is the document URL
+     * its request was sent with, looked up by request id until the request finishes or fails.
+     */
+    private static void installCdp(WebDriver driver, List<String> patterns) {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<>("Network.enable", Map.of()));
+        devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", patterns)));
+        Map<String, String> documents = new ConcurrentHashMap<>();
+        devTools.addListener(cdpEvent("Network.requestWillBeSent"), event -> {
+            if (event.get("documentURL") != null) {
+                documents.put(String.valueOf(event.get("requestId")), String.valueOf(event.get("documentURL")));
+            }
+        });
+        devTools.addListener(cdpEvent("Network.loadingFinished"), event -> documents.remove(String.valueOf(event.get("requestId"))));
+        devTools.addListener(cdpEvent("Network.loadingFailed"), event -> {
+            String documentUrl = documents.remove(String.valueOf(event.get("requestId")));
+            if (event.get("blockedReason") != null && documentUrl != null) {
+                countBlocked(documentUrl);
+            }
+        });
+    }
+
+    private static Event<Map<String, Object>> cdpEvent(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Prepares the options of a Firefox session for blocking. Firefox has no blocklist command and a BiDi intercept
+     * would add a round trip to the test for every request, so matching URLs are instead sent by a proxy
+     * auto-config script to a closed local port and fail inside the browser. Other requests go direct.
+     * The {@code webSocketUrl} capability lets {@link #install} count the failed requests through BiDi events.
+     *
+     * @param options The options of the Firefox session.
+     */
+    public static void configure(FirefoxOptions options) {
+        String patterns = patterns().stream()
+                .map(p -> "'" + p.replace("\\", "\\\\").replace("'", "\\'") + "'")
+                .collect(Collectors.joining(","));
+        String pac = "function FindProxyForURL(url, host) {"
+                + " var patterns = [" + patterns + "];"
+                + " for (var i = 0; i < patterns.length; i++) { if (shExpMatch(url, patterns[i])) { return 'PROXY " + DISCARD_PROXY + "'; } }"
+                + " return 'DIRECT'; }";
+        options.addPreference("network.proxy.type", 2);
+        options.addPreference("network.proxy.autoconfig_url",
+                "data:text/javascript," + URLEncoder.encode(pac, StandardCharsets.UTF_8).replace("+", "%20"));
+        // Patterns may match on the path, which Firefox leaves out of the URL given to the script by default
+        options.addPreference("network.proxy.autoconfig_url.include_path", true);
+        options.setCapability("webSocketUrl", true);
+    }
+
+    /**
+     * Counts the requests of a Firefox session failed by the proxy script of {@link #configure}. The BiDi fetch
+     * error and navigation events are only listened to, so no request waits on the test. The page of a blocked
+     * request is the URL its browsing context last navigated to, or the request itself when it is a navigation.
+     */
+    private static void installBiDi(WebDriver driver, List<String> patterns) {
+        Pattern blocklist = Pattern.compile(patterns.stream()
+                .map(p -> Arrays.stream(p.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")))
+                .collect(Collectors.joining("|")));
+        Map<String, String> documents = new ConcurrentHashMap<>();
+        BrowsingContextInspector inspector = new BrowsingContextInspector(driver);
+        inspector.onNavigationStarted(navigation -> documents.put(navigation.getBrowsingContextId(), navigation.getUrl()));
+        Network network = new Network(driver);
+        network.onFetchError(event -> {
+            if (!blocklist.matcher(event.getRequest().getUrl()).matches()) {
+                return;
+            }
+            String documentUrl = event.getNavigationId() != null
+                    ? event.getRequest().getUrl()
+                    : documents.get(event.getBrowsingContextId());
+            if (documentUrl != null) {
+                countBlocked(documentUrl);
+            }
+        });
+    }
+
+    private static void countBlocked(String documentUrl) {
+        String page;
+        try {
+            page = URI.create(documentUrl).getPath();
+        } catch (IllegalArgumentException e) {
+            page = documentUrl;
+        }
+        BLOCKED.computeIfAbsent(page == null || page.isEmpty() ? "/" : page, p -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Returns the number of requests blocked on the page with the given path, over all sessions.
+     *
+     * @param page The path of the page, as in {@code location.pathname}.
+     * @return The number of blocked requests, 0 if none were blocked on the page.
+     */
+    public static int blockedCount(String page) {
+        AtomicInteger blocked = BLOCKED.get(page);
+        return blocked == null ? 0 : blocked.get();
+    }
+}
@@ -1,7 +1,7 @@
 package com.xm.interview.test.base;
 
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.xm.interview.test.metrics.CommandCounter;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -17,12 +17,26 @@ public class WebDriverFactory {
     private WebDriverFactory() {}
 
     /**
-     * Retrieves an instance of WebDriver based on the specified browser type.
+     * Retrieves an instance of WebDriver based on the specified browser type, using the profile selected by
+     * the {@code Profile} system property.
      *
      * @param browserType The type of browser to be used.
      * @return The WebDriver instance.
      */
     public static WebDriver getDriver(String browserType) {
+        return getDriver(browserType, BrowserProfile.fromSystemProperty());
+    }
+
+    /**
+     * Retrieves an instance of WebDriver based on the specified browser type and profile.
+     * The driver is decorated with the {@link CommandCounter} unless command counting is disabled,
+     * and third-party requests are blocked when {@link RequestBlocker#isEnabled()}.
+     *
+     * @param browserType The type of browser to be used.
+     * @param profile     The launch profile applied on top of the browser defaults.
+     * @return The WebDriver instance.
+     */
+    public static WebDriver getDriver(String browserType, BrowserProfile profile) {
 
         final Logger logger = Logger.getLogger(WebDriverFactory.class.getName());
         WebDriver driver = null;
@@ -30,25 +44,31 @@ public class WebDriverFactory {
         try {
             switch (browserType.toLowerCase()) {
                 case "chrome":
-                    WebDriverManager.chromedriver().setup();
+                    DriverBinaryResolver.setup("chrome");
                     ChromeOptions chromeOptions = new ChromeOptions();
                     chromeOptions.addArguments("--default-search-engine=Google");
                     chromeOptions.addArguments("--incognito");
                     chromeOptions.addArguments("--disable-search-engine-choice-screen");
+                    profile.apply(chromeOptions);
                     System.out.println("Opening the browser: ChromeDriver");
                     driver = new ChromeDriver(chromeOptions);
                     break;
 
                 case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
+                    DriverBinaryResolver.setup("firefox");
                     FirefoxOptions firefoxOptions = new FirefoxOptions();
+                    profile.apply(firefoxOptions);
+                    if (RequestBlocker.isEnabled()) {
+                        RequestBlocker.configure(firefoxOptions);
+                    }
                     System.out.println("Opening the browser: FirefoxDriver");
                     driver = new FirefoxDriver(firefoxOptions);
                     break;
 
                 case "edge":
-                    WebDriverManager.edgedriver().setup();
+                    DriverBinaryResolver.setup("edge");
                     EdgeOptions edgeOptions = new EdgeOptions();
+                    profile.apply(edgeOptions);
                     System.out.println("Opening the browser: EdgeDriver");
                     driver = new EdgeDriver(edgeOptions);
                     break;
@@ -61,6 +81,12 @@ public class WebDriverFactory {
             logger.severe("Error occurred while initializing the WebDriver: " + e.getMessage());
         }
 
+        if (driver != null && CommandCounter.isEnabled()) {
+            driver = CommandCounter.decorate(driver);
+        }
+        if (driver != null && RequestBlocker.isEnabled()) {
+            RequestBlocker.install(driver, browserType);
+        }
         return driver;
     }
 }
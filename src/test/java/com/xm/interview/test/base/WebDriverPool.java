@@ -0,0 +1,237 @@
+package com.xm.interview.test.base;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * The WebDriverPool class keeps warm WebDriver sessions per browser type so test classes can reuse them
+ * instead of launching a new browser each time.
+ * <p>
+ * The pool is enabled with {@code -DDriverPool=true}. {@code DriverPoolSize} limits the idle sessions kept per browser
+ * type and {@code DriverPoolMaxAgeSeconds} evicts sessions older than the given age.
+ */
+public class WebDriverPool {
+    private static final Logger logger = Logger.getLogger(WebDriverPool.class.getName());
+    private static final int MAX_IDLE_PER_BROWSER = Integer.getInteger("DriverPoolSize", 2);
+    private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("DriverPoolMaxAgeSeconds", 600));
+
+    private static final Map<String, Deque<PooledDriver>> IDLE = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledDriver> LEASED = new ConcurrentHashMap<>();
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+    private static final AtomicInteger evictions = new AtomicInteger();
+    private static final AtomicLong launchNanos = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WebDriverPool::shutdown));
+    }
+
+    private WebDriverPool() {}
+
+    /**
+     * Returns whether the pool was enabled through the {@code DriverPool} system property.
+     *
+     * @return True if the pool should be used, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("DriverPool", "false"));
+    }
+
+    /**
+     * Leases a session for the given browser type, reusing a healthy idle session when one is available.
+     *
+     * @param browserType The type of browser to be used.
+     * @return The WebDriver instance, or null if a new browser could not be launched.
+     */
+    public static WebDriver lease(String browserType) {
+        String key = browserType.toLowerCase();
+        Deque<PooledDriver> idle = IDLE.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (pooled.isExpired()) {
+                evict(pooled, "max age reached");
+            } else if (!pooled.isHealthy()) {
+                evict(pooled, "health check failed");
+            } else {
+                hits.incrementAndGet();
+                LEASED.put(pooled.driver, pooled);
+                System.out.println("Reusing pooled browser session: " + key);
+                return pooled.driver;
+            }
+        }
+
+        misses.incrementAndGet();
+        long start = System.nanoTime();
+        WebDriver driver = WebDriverFactory.getDriver(key);
+        launchNanos.addAndGet(System.nanoTime() - start);
+        if (driver != null) {
+            LEASED.put(driver, new PooledDriver(key, driver));
+        }
+        return driver;
+    }
+
+    /**
+     * Returns a leased session to the pool. The session is reset so the next lease starts from a clean state,
+     * or quit if it cannot be reset or the pool for its browser type is full.
+     *
+     * @param driver The WebDriver instance returned by {@link #lease(String)}.
+     */
+    public static void release(WebDriver driver) {
+        PooledDriver pooled = LEASED.remove(driver);
+        if (pooled == null) {
+            driver.quit();
+            return;
+        }
+
+        Deque<PooledDriver> idle = IDLE.computeIfAbsent(pooled.browserType, k -> new ConcurrentLinkedDeque<>());
+        if (pooled.isExpired()) {
+            evict(pooled, "max age reached");
+        } else if (idle.size() >= MAX_IDLE_PER_BROWSER) {
+            evict(pooled, "pool is full");
+        } else if (!pooled.reset()) {
+            evict(pooled, "reset failed");
+        } else {
+            idle.addLast(pooled);
+        }
+    }
+
+    /**
+     * Quits every idle and leased session and prints the pool statistics.
+     */
+    public static void shutdown() {
+        for (Deque<PooledDriver> idle : IDLE.values()) {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                pooled.quit();
+            }
+        }
+        for (PooledDriver pooled : LEASED.values()) {
+            pooled.quit();
+        }
+        LEASED.clear();
+        if (hits.get() + misses.get() > 0) {
+            System.out.println(stats());
+        }
+    }
+
+    /**
+     * Returns the hit, miss and launch time statistics of the pool.
+     *
+     * @return A one-line summary of the pool statistics.
+     */
+    public static String stats() {
+        int launched = misses.get();
+        long averageLaunchMillis = launched == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(launchNanos.get()) / launched;
+        return "WebDriverPool: hits=" + hits.get() + ", misses=" + launched + ", evictions=" + evictions.get()
+                + ", totalLaunchMs=" + TimeUnit.NANOSECONDS.toMillis(launchNanos.get())
+                + ", averageLaunchMs=" + averageLaunchMillis;
+    }
+
+    private static void evict(PooledDriver pooled, String reason) {
+        evictions.incrementAndGet();
+        logger.info("Evicting pooled " + pooled.browserType + " session: " + reason);
+        pooled.quit();
+    }
+
+    /**
+     * A browser session owned by the pool, together with the state needed to check and reset it.
+     * On Chrome and Edge the origins the session navigates to are tracked through CDP, so all of them are cleared
+     * on reset; other browsers only clear the origin of the page they are on.
+     */
+    private static class PooledDriver {
+        private final String browserType;
+        private final WebDriver driver;
+        private final long createdAt = System.nanoTime();
+        private final Dimension initialSize;
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+        private DevTools devTools;
+
+        PooledDriver(String browserType, WebDriver driver) {
+            this.browserType = browserType;
+            this.driver = driver;
+            this.initialSize = driver.manage().window().getSize();
+            if (!"firefox".equals(browserType) && driver instanceof HasDevTools) {
+                trackOrigins();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void trackOrigins() {
+            try {
+                DevTools tools = ((HasDevTools) driver).getDevTools();
+                tools.createSessionIfThereIsNotOne();
+                tools.send(new Command<>("Page.enable", Map.of()));
+                tools.addListener(new Event<Map<String, Object>>("Page.frameNavigated", input -> input.read(Json.MAP_TYPE)), event -> {
+                    Object origin = ((Map<String, Object>) event.get("frame")).get("securityOrigin");
+                    if (origin != null && String.valueOf(origin).startsWith("http")) {
+                        origins.add(String.valueOf(origin));
+                    }
+                });
+                devTools = tools;
+            } catch (RuntimeException e) {
+                logger.warning("Could not track the origins of pooled " + browserType + " session: " + e.getMessage());
+            }
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - createdAt > MAX_AGE_NANOS;
+        }
+
+        boolean isHealthy() {
+            try {
+                driver.getWindowHandle();
+                return true;
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        boolean reset() {
+            try {
+                if (devTools != null) {
+                    devTools.send(new Command<>("Network.clearBrowserCookies", Map.of()));
+                    for (String origin : origins) {
+                        devTools.send(new Command<>("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all")));
+                    }
+                    origins.clear();
+                } else {
+                    driver.manage().deleteAllCookies();
+                }
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                driver.manage().window().setSize(initialSize);
+                driver.get("about:blank");
+                return true;
+            } catch (WebDriverException e) {
+                logger.warning("Failed to reset pooled " + browserType + " session: " + e.getMessage());
+                return false;
+            }
+        }
+
+        void quit() {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                logger.warning("Failed to quit pooled " + browserType + " session: " + e.getMessage());
+            }
+        }
+    }
+}
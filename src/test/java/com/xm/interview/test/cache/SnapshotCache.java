@@ -0,0 +1,268 @@
+package com.xm.interview.test.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The SnapshotCache class stores scraped stock tables so runs started within a short time of each other can reuse
+ * them instead of scraping the same table again.
+ * <p>
+ * Snapshots are keyed by country, site URL and a hash identifying the table, e.g. its headers, size and first rows,
+ * kept in an in-memory LRU tier and in gzipped files on disk, and expire after a TTL. A snapshot is also dropped when the live table reports a different
+ * number of entries than it holds.
+ * <p>
+ * The cache is enabled with {@code -DSnapshotCache=true}; {@code SnapshotDir}, {@code SnapshotTtlMinutes} and
+ * {@code SnapshotMemoryEntries} change its directory, TTL and in-memory capacity.
+ */
+public class SnapshotCache {
+    private static final Logger logger = Logger.getLogger(SnapshotCache.class.getName());
+    private static final int MAGIC = 0x58534E50;
+    private static final int VERSION = 1;
+
+    private static SnapshotCache shared;
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Snapshot> memory;
+
+    /**
+     * Creates a cache.
+     *
+     * @param directory      The directory the snapshot files are stored in.
+     * @param ttlMillis      How long a snapshot stays fresh, in milliseconds.
+     * @param memoryCapacity The number of snapshots kept in memory.
+     */
+    public SnapshotCache(Path directory, long ttlMillis, int memoryCapacity) {
+        this(directory, ttlMillis, memoryCapacity, System::currentTimeMillis);
+    }
+
+    SnapshotCache(Path directory, long ttlMillis, int memoryCapacity, LongSupplier clock) {
+        this.directory = directory;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.memory = new LinkedHashMap<String, Snapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+                return size() > memoryCapacity;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the cache was enabled through the {@code SnapshotCache} system property.
+     *
+     * @return True if snapshots should be used, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("SnapshotCache", "false"));
+    }
+
+    /**
+     * Returns the cache shared by the tests of this JVM, configured from the system properties.
+     *
+     * @return The shared cache.
+     */
+    public static synchronized SnapshotCache shared() {
+        if (shared == null) {
+            shared = new SnapshotCache(
+                    Paths.get(System.getProperty("SnapshotDir", System.getProperty("java.io.tmpdir") + "/xm-ui-test/snapshots")),
+                    TimeUnit.MINUTES.toMillis(Long.getLong("SnapshotTtlMinutes", 30)),
+                    Integer.getInteger("SnapshotMemoryEntries", 16));
+        }
+        return shared;
+    }
+
+    /**
+     * Builds the cache key of a table.
+     *
+     * @param country     The country the table is filtered by.
+     * @param siteUrl     The URL of the site the table was scraped from.
+     * @param contentHash A hash of the table content, see {@link #hash(String)}.
+     * @return The cache key.
+     */
+    public static String key(String country, String siteUrl, String contentHash) {
+        return country + "|" + siteUrl + "|" + contentHash;
+    }
+
+    /**
+     * Hashes the given content with SHA-256.
+     *
+     * @param content The content to hash.
+     * @return The hash as a hexadecimal string.
+     */
+    public static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Returns the fresh snapshot stored under the given key, if its size matches the live table.
+     * An expired or outdated snapshot is removed from both tiers.
+     *
+     * @param key        The cache key.
+     * @param liveTotal  The number of entries the live table reports.
+     * @return The rows of the snapshot, or null if no usable snapshot exists.
+     */
+    public synchronized List<Map<String, String>> get(String key, int liveTotal) {
+        Snapshot snapshot = memory.get(key);
+        if (snapshot == null) {
+            snapshot = readFile(key);
+            if (snapshot != null) {
+                memory.put(key, snapshot);
+            }
+        }
+        if (snapshot == null) {
+            return null;
+        }
+        if (clock.getAsLong() - snapshot.createdAt > ttlMillis) {
+            logger.info("Snapshot expired: " + key);
+            invalidate(key);
+            return null;
+        }
+        if (snapshot.rows.size() != liveTotal) {
+            logger.info("Snapshot holds " + snapshot.rows.size() + " entries but the table reports " + liveTotal + ": " + key);
+            invalidate(key);
+            return null;
+        }
+        return snapshot.rows;
+    }
+
+    /**
+     * Stores the rows of a table under the given key.
+     *
+     * @param key  The cache key.
+     * @param rows The rows of the table.
+     */
+    public synchronized void put(String key, List<Map<String, String>> rows) {
+        Snapshot snapshot = new Snapshot(clock.getAsLong(), new ArrayList<>(rows));
+        memory.put(key, snapshot);
+        writeFile(key, snapshot);
+    }
+
+    /**
+     * Removes the snapshot stored under the given key from both tiers.
+     *
+     * @param key The cache key.
+     */
+    public synchronized void invalidate(String key) {
+        memory.remove(key);
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            logger.warning("Could not delete snapshot " + file(key) + ": " + e.getMessage());
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(hash(key) + ".snap.gz");
+    }
+
+    /**
+     * Writes a snapshot as a header dictionary followed by rows of (header index, value) pairs.
+     */
+    private void writeFile(String key, Snapshot snapshot) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Map<String, String> row : snapshot.rows) {
+            for (String header : row.keySet()) {
+                dictionary.putIfAbsent(header, dictionary.size());
+            }
+        }
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "snapshot", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key);
+                out.writeLong(snapshot.createdAt);
+                out.writeInt(dictionary.size());
+                for (String header : dictionary.keySet()) {
+                    out.writeUTF(header);
+                }
+                out.writeInt(snapshot.rows.size());
+                for (Map<String, String> row : snapshot.rows) {
+                    out.writeShort(row.size());
+                    for (Map.Entry<String, String> cell : row.entrySet()) {
+                        out.writeShort(dictionary.get(cell.getKey()));
+                        out.writeUTF(cell.getValue());
+                    }
+                }
+            }
+            Files.move(temp, file(key), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not write snapshot " + file(key) + ": " + e.getMessage());
+        }
+    }
+
+    private Snapshot readFile(String key) {
+        Path file = file(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !key.equals(in.readUTF())) {
+                return null;
+            }
+            long createdAt = in.readLong();
+            String[] dictionary = new String[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+            int rowCount = in.readInt();
+            List<Map<String, String>> rows = new ArrayList<>(rowCount);
+            for (int r = 0; r < rowCount; r++) {
+                int cells = in.readShort();
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int c = 0; c < cells; c++) {
+                    row.put(dictionary[in.readShort()], in.readUTF());
+                }
+                rows.add(row);
+            }
+            return new Snapshot(createdAt, rows);
+        } catch (IOException e) {
+            logger.warning("Could not read snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The rows of a scraped table and the time they were scraped at.
+     */
+    private static final class Snapshot {
+        private final long createdAt;
+        private final List<Map<String, String>> rows;
+
+        Snapshot(long createdAt, List<Map<String, String>> rows) {
+            this.createdAt = createdAt;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.xm.interview.test.cache;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * The SnapshotCacheTest class verifies the storage, expiry and invalidation of {@link SnapshotCache}.
+ */
+public class SnapshotCacheTest {
+    private static final String KEY = SnapshotCache.key("Norway", "https://www.xm.com", SnapshotCache.hash("headers"));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    public void reusesSnapshotFromDiskInANewCache() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        new SnapshotCache(directory, 60_000, 4, now::get).put(KEY, rows(23));
+
+        List<Map<String, String>> cached = new SnapshotCache(directory, 60_000, 4, now::get).get(KEY, 23);
+
+        Assert.assertEquals(rows(23), cached);
+    }
+
+    @Test
+    public void dropsExpiredSnapshots() {
+        SnapshotCache cache = new SnapshotCache(folder.getRoot().toPath(), 60_000, 4, now::get);
+        cache.put(KEY, rows(3));
+
+        now.addAndGet(60_001);
+
+        Assert.assertNull(cache.get(KEY, 3));
+        Assert.assertEquals(0, folder.getRoot().listFiles().length);
+    }
+
+    @Test
+    public void dropsSnapshotsWhenTheLiveCountDiffers() {
+        SnapshotCache cache = new SnapshotCache(folder.getRoot().toPath(), 60_000, 4, now::get);
+        cache.put(KEY, rows(3));
+
+        Assert.assertNull(cache.get(KEY, 4));
+        Assert.assertNull(cache.get(KEY, 3));
+    }
+
+    @Test
+    public void keysDependOnCountryAndContent() {
+        Assert.assertNotEquals(KEY, SnapshotCache.key("Sweden", "https://www.xm.com", SnapshotCache.hash("headers")));
+        Assert.assertNotEquals(KEY, SnapshotCache.key("Norway", "https://www.xm.com", SnapshotCache.hash("other headers")));
+    }
+
+    private static List<Map<String, String>> rows(int count) {
+        List<Map<String, String>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("Symbol / Description", "Company " + i + " ASA (SYM" + i + ".OL)");
+            row.put("Min Spread", "0.1" + i);
+            row.put("", "Read more");
+            row.put("ReadmoreHref", "https://www.xm.com/stocks/sym" + i + "-ol");
+            rows.add(row);
+        }
+        return rows;
+    }
+}
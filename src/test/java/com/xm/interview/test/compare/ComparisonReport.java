@@ -0,0 +1,128 @@
+package com.xm.interview.test.compare;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ComparisonReport class holds the outcome of comparing a table entry with the trading conditions of a stock:
+ * the columns whose value was found in the trading conditions, the columns whose counterpart has a different value,
+ * and the columns that could not be found at all.
+ */
+public class ComparisonReport {
+    private final String symbol;
+    private final List<Match> matches = new ArrayList<>();
+    private final List<Mismatch> mismatches = new ArrayList<>();
+    private final List<String> missing = new ArrayList<>();
+
+    /**
+     * Creates an empty report.
+     *
+     * @param symbol The stock symbol the report is about.
+     */
+    public ComparisonReport(String symbol) {
+        this.symbol = symbol;
+    }
+
+    void addMatch(String column, List<String> conditionKeys, String value) {
+        matches.add(new Match(column, conditionKeys, value));
+    }
+
+    void addMismatch(String column, String conditionKey, String tableValue, String conditionValue) {
+        mismatches.add(new Mismatch(column, conditionKey, tableValue, conditionValue));
+    }
+
+    void addMissing(String column) {
+        missing.add(column);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public List<Match> getMatches() {
+        return Collections.unmodifiableList(matches);
+    }
+
+    public List<Mismatch> getMismatches() {
+        return Collections.unmodifiableList(mismatches);
+    }
+
+    public List<String> getMissing() {
+        return Collections.unmodifiableList(missing);
+    }
+
+    /**
+     * Returns whether no column had a differing counterpart in the trading conditions.
+     *
+     * @return True if there are no mismatches, false otherwise.
+     */
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return symbol + ": " + matches.size() + " matched, " + mismatches.size() + " mismatched, " + missing.size() + " missing";
+    }
+
+    /**
+     * A table column whose value was found in the trading conditions.
+     */
+    public static final class Match {
+        private final String column;
+        private final List<String> conditionKeys;
+        private final String value;
+
+        Match(String column, List<String> conditionKeys, String value) {
+            this.column = column;
+            this.conditionKeys = conditionKeys;
+            this.value = value;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public List<String> getConditionKeys() {
+            return conditionKeys;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * A table column whose counterpart in the trading conditions holds a different value.
+     */
+    public static final class Mismatch {
+        private final String column;
+        private final String conditionKey;
+        private final String tableValue;
+        private final String conditionValue;
+
+        Mismatch(String column, String conditionKey, String tableValue, String conditionValue) {
+            this.column = column;
+            this.conditionKey = conditionKey;
+            this.tableValue = tableValue;
+            this.conditionValue = conditionValue;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public String getConditionKey() {
+            return conditionKey;
+        }
+
+        public String getTableValue() {
+            return tableValue;
+        }
+
+        public String getConditionValue() {
+            return conditionValue;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.xm.interview.test.compare;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The DataComparator class compares the entries of the stocks table with trading conditions.
+ * <p>
+ * The trading conditions of a stock are indexed once, from normalized value to header and from normalized header
+ * to value, so comparing an entry is a single pass over its columns instead of a nested loop over both maps.
+ * A column is compared with the condition of the same normalized header, see {@link ValueNormalizer#normalizeKey};
+ * only columns without one are matched against the conditions by value.
+ */
+public class DataComparator {
+    /**
+     * Columns that describe the row rather than a trading condition.
+     */
+    private static final String READ_MORE_COLUMN = "ReadmoreHref";
+
+    private DataComparator() {
+    }
+
+    /**
+     * Compares a table entry with the trading conditions of the same stock.
+     *
+     * @param symbol            The stock symbol, used to label the report.
+     * @param entry             The table entry of the stock.
+     * @param tradingConditions The trading conditions of the stock.
+     * @return The comparison report.
+     */
+    public static ComparisonReport compare(String symbol, Map<String, String> entry, Map<String, String> tradingConditions) {
+        return compare(symbol, entry, new ConditionsIndex(tradingConditions));
+    }
+
+    /**
+     * Compares a table entry with already indexed trading conditions.
+     *
+     * @param symbol The stock symbol, used to label the report.
+     * @param entry  The table entry of the stock.
+     * @param index  The indexed trading conditions of the stock.
+     * @return The comparison report.
+     */
+    public static ComparisonReport compare(String symbol, Map<String, String> entry, ConditionsIndex index) {
+        ComparisonReport report = new ComparisonReport(symbol);
+        for (Map.Entry<String, String> column : entry.entrySet()) {
+            String value = column.getValue();
+            if (READ_MORE_COLUMN.equals(column.getKey()) || value == null || value.trim().isEmpty()) {
+                continue;
+            }
+            String normalizedValue = ValueNormalizer.normalizeValue(value);
+            String conditionKey = index.keysByKey.get(ValueNormalizer.normalizeKey(column.getKey()));
+            if (conditionKey != null) {
+                String conditionValue = index.conditions.get(conditionKey);
+                if (normalizedValue.equals(ValueNormalizer.normalizeValue(conditionValue))) {
+                    report.addMatch(column.getKey(), Collections.singletonList(conditionKey), value);
+                } else {
+                    report.addMismatch(column.getKey(), conditionKey, value, conditionValue);
+                }
+                continue;
+            }
+            // Columns without a condition of the same name are matched by value
+            List<String> keys = index.keysByValue.get(normalizedValue);
+            if (keys != null) {
+                report.addMatch(column.getKey(), keys, value);
+            } else {
+                report.addMissing(column.getKey());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Compares a batch of table entries with the trading conditions of the same stocks.
+     * Symbols without trading conditions are skipped.
+     *
+     * @param entries    The table entries, keyed by stock symbol.
+     * @param conditions The trading conditions, keyed by stock symbol.
+     * @return The comparison reports, in the order of the entries.
+     */
+    public static List<ComparisonReport> compareAll(Map<String, Map<String, String>> entries, Map<String, Map<String, String>> conditions) {
+        List<ComparisonReport> reports = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Map<String, String>> entry : entries.entrySet()) {
+            Map<String, String> tradingConditions = conditions.get(entry.getKey());
+            if (tradingConditions != null) {
+                reports.add(compare(entry.getKey(), entry.getValue(), tradingConditions));
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * The trading conditions of a stock, indexed by normalized value and by normalized header.
+     */
+    public static final class ConditionsIndex {
+        private final Map<String, String> conditions;
+        private final Map<String, List<String>> keysByValue = new HashMap<>();
+        private final Map<String, String> keysByKey = new HashMap<>();
+
+        /**
+         * Indexes the given trading conditions.
+         *
+         * @param conditions The trading conditions of a stock.
+         */
+        public ConditionsIndex(Map<String, String> conditions) {
+            this.conditions = new LinkedHashMap<>(conditions);
+            for (Map.Entry<String, String> condition : conditions.entrySet()) {
+                String normalizedValue = ValueNormalizer.normalizeValue(condition.getValue());
+                if (!normalizedValue.isEmpty()) {
+                    List<String> keys = keysByValue.get(normalizedValue);
+                    if (keys == null) {
+                        keysByValue.put(normalizedValue, Collections.singletonList(condition.getKey()));
+                    } else {
+                        List<String> extended = new ArrayList<>(keys);
+                        extended.add(condition.getKey());
+                        keysByValue.put(normalizedValue, extended);
+                    }
+                }
+                keysByKey.put(ValueNormalizer.normalizeKey(condition.getKey()), condition.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.xm.interview.test.compare;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The DataComparatorTest class verifies the value normalization and the match, mismatch and missing
+ * classification of {@link DataComparator}.
+ */
+public class DataComparatorTest {
+
+    @Test
+    public void normalizesNumbersPercentagesAndUnits() {
+        Assert.assertEquals("0.1", ValueNormalizer.normalizeValue("0.10"));
+        Assert.assertEquals("0.1", ValueNormalizer.normalizeValue(" 0.1 pips"));
+        Assert.assertEquals("10%", ValueNormalizer.normalizeValue("10.00 %"));
+        Assert.assertEquals("-0.1", ValueNormalizer.normalizeValue("-0.10"));
+        Assert.assertEquals("1311", ValueNormalizer.normalizeValue("1,311"));
+        Assert.assertEquals("0", ValueNormalizer.normalizeValue("-0.00"));
+        Assert.assertEquals("orkla asa (ork.ol)", ValueNormalizer.normalizeValue("Orkla  ASA (ORK.OL)"));
+        Assert.assertEquals("1/5000", ValueNormalizer.normalizeValue("1/5000"));
+    }
+
+    @Test
+    public void normalizesHeaderAbbreviations() {
+        Assert.assertEquals(ValueNormalizer.normalizeKey("Minimum/Maximum Trade Size"), ValueNormalizer.normalizeKey("Min/Max Trade Size"));
+        Assert.assertEquals(ValueNormalizer.normalizeKey("Minimum Spread"), ValueNormalizer.normalizeKey("Min Spread"));
+        Assert.assertEquals(ValueNormalizer.normalizeKey("Swap Value in Margin Currency Long"), ValueNormalizer.normalizeKey("Long Swap Value"));
+        Assert.assertEquals(ValueNormalizer.normalizeKey("Swap Value in Margin Currency Short"), ValueNormalizer.normalizeKey("Short Swap Value"));
+        Assert.assertEquals(ValueNormalizer.normalizeKey("Margin Requirement"), ValueNormalizer.normalizeKey("Margin Percentage"));
+    }
+
+    @Test
+    public void classifiesMatchesMismatchesAndMissingColumns() {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("Min Spread", "0.10");
+        entry.put("Margin Percentage", "10%");
+        entry.put("Min/Max Trade Size", "1/5000");
+        entry.put("Short Swap Value", "-0.02");
+        entry.put("ReadmoreHref", "https://www.xm.com/stocks/ork-ol");
+
+        Map<String, String> conditions = new LinkedHashMap<>();
+        conditions.put("Minimum Spread", "0.1");
+        conditions.put("Margin Requirement", "10.00 %");
+        conditions.put("Minimum/Maximum Trade Size", "1/2500");
+
+        ComparisonReport report = DataComparator.compare("ORK.OL", entry, conditions);
+
+        Assert.assertEquals(2, report.getMatches().size());
+        Assert.assertEquals("Min Spread", report.getMatches().get(0).getColumn());
+        Assert.assertEquals(Collections.singletonList("Minimum Spread"), report.getMatches().get(0).getConditionKeys());
+        Assert.assertEquals(Collections.singletonList("Margin Requirement"), report.getMatches().get(1).getConditionKeys());
+        Assert.assertEquals(1, report.getMismatches().size());
+        Assert.assertEquals("Minimum/Maximum Trade Size", report.getMismatches().get(0).getConditionKey());
+        Assert.assertEquals("1/2500", report.getMismatches().get(0).getConditionValue());
+        Assert.assertEquals(Collections.singletonList("Short Swap Value"), report.getMissing());
+        Assert.assertFalse(report.isConsistent());
+    }
+
+    @Test
+    public void comparesByHeaderBeforeValue() {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("Min Spread", "0.10");
+        entry.put("Long Swap Value", "-0.10");
+
+        Map<String, String> conditions = new LinkedHashMap<>();
+        conditions.put("Minimum Spread", "0.12");
+        conditions.put("Limit and Stop Levels", "0.10");
+        conditions.put("Swap Value in Margin Currency Long", "-0.2");
+        conditions.put("Swap Value in Points Long", "-0.10");
+
+        ComparisonReport report = DataComparator.compare("ORK.OL", entry, conditions);
+
+        Assert.assertTrue(report.getMatches().isEmpty());
+        Assert.assertEquals(2, report.getMismatches().size());
+        Assert.assertEquals("Minimum Spread", report.getMismatches().get(0).getConditionKey());
+        Assert.assertEquals("0.12", report.getMismatches().get(0).getConditionValue());
+        Assert.assertEquals("Swap Value in Margin Currency Long", report.getMismatches().get(1).getConditionKey());
+        Assert.assertTrue(report.getMissing().isEmpty());
+    }
+
+    @Test
+    public void reportsEveryHeaderSharingAValue() {
+        Map<String, String> entry = Collections.singletonMap("Overnight Long", "-0.10");
+        Map<String, String> conditions = new LinkedHashMap<>();
+        conditions.put("Swap Value in Margin Currency Long", "-0.1");
+        conditions.put("Swap Value in Points Long", "-0.10");
+
+        List<ComparisonReport.Match> matches = DataComparator.compare("ORK.OL", entry, conditions).getMatches();
+
+        Assert.assertEquals(1, matches.size());
+        Assert.assertEquals(Arrays.asList("Swap Value in Margin Currency Long", "Swap Value in Points Long"), matches.get(0).getConditionKeys());
+    }
+}
@@ -0,0 +1,96 @@
+package com.xm.interview.test.compare;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The ValueNormalizer class turns table values and headers into canonical forms, so values written differently
+ * on the two pages ("0.10" and "0.1", "10%" and "10.00 %", "0.1" and "0.1 pips") compare equal.
+ */
+public class ValueNormalizer {
+    /**
+     * A number with optional sign, thousands separators, decimals, percent sign and trailing unit.
+     */
+    private static final Pattern NUMBER = Pattern.compile(
+            "^([+-]?)\\s*(\\d{1,3}(?:,\\d{3})+|\\d+)(?:\\.(\\d+))?\\s*(%)?\\s*([a-z]+\\.?)?$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    /**
+     * Normalized stocks table headers and the normalized trading conditions header they stand for.
+     */
+    private static final Map<String, String> KEY_ALIASES = new HashMap<>();
+
+    static {
+        KEY_ALIASES.put("margin percentage", "margin requirement");
+        KEY_ALIASES.put("long swap value", "swap value in margin currency long");
+        KEY_ALIASES.put("short swap value", "swap value in margin currency short");
+    }
+
+    private ValueNormalizer() {
+    }
+
+    /**
+     * Normalizes a cell value. Numbers lose their formatting and trailing unit but keep a percent sign;
+     * any other text is lower-cased with its whitespace collapsed.
+     *
+     * @param value The value to normalize.
+     * @return The normalized value, or an empty string for a null or blank value.
+     */
+    public static String normalizeValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        String text = WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        Matcher matcher = NUMBER.matcher(text);
+        if (!matcher.matches()) {
+            return text;
+        }
+        String digits = matcher.group(2).replace(",", "") + (matcher.group(3) == null ? "" : "." + matcher.group(3));
+        BigDecimal number = new BigDecimal(digits);
+        if (number.signum() != 0 && "-".equals(matcher.group(1))) {
+            number = number.negate();
+        }
+        String canonical = number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+        return matcher.group(4) == null ? canonical : canonical + "%";
+    }
+
+    /**
+     * Normalizes a column or row header so headers naming the same field on both pages compare equal,
+     * e.g. "Min/Max Trade Size" and "Minimum/Maximum Trade Size", or "Long Swap Value" and
+     * "Swap Value in Margin Currency Long".
+     *
+     * @param key The header to normalize.
+     * @return The normalized header.
+     */
+    public static String normalizeKey(String key) {
+        if (key == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder();
+        for (String token : NON_ALPHANUMERIC.split(key.toLowerCase(Locale.ROOT))) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(expand(token));
+        }
+        return KEY_ALIASES.getOrDefault(normalized.toString(), normalized.toString());
+    }
+
+    private static String expand(String token) {
+        switch (token) {
+            case "min":
+                return "minimum";
+            case "max":
+                return "maximum";
+            default:
+                return token;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.xm.interview.test.feed;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * The FeedCapture class records the body of the network response the stocks table is filled from,
+ * using the DevTools network interception of Chromium browsers.
+ * <p>
+ * The response is matched by URL against the {@code FeedUrlPattern} system property.
+ */
+public class FeedCapture implements AutoCloseable {
+    private static final Logger logger = Logger.getLogger(FeedCapture.class.getName());
+    private static final Pattern URL_PATTERN = Pattern.compile(System.getProperty("FeedUrlPattern", "stocks.*\\.json"));
+
+    private final NetworkInterceptor interceptor;
+    private final AtomicReference<String> body = new AtomicReference<>();
+
+    private FeedCapture(WebDriver driver) {
+        Filter capture = next -> request -> {
+            HttpResponse response = next.execute(request);
+            if (URL_PATTERN.matcher(request.getUri()).find()) {
+                // Buffer the body so it can be read here and still be passed on to the browser
+                byte[] content = Contents.bytes(response.getContent());
+                response.setContent(Contents.bytes(content));
+                body.set(new String(content, StandardCharsets.UTF_8));
+                logger.info("Captured table feed " + request.getUri() + " (" + content.length + " bytes)");
+            }
+            return response;
+        };
+        this.interceptor = new NetworkInterceptor(driver, capture);
+    }
+
+    /**
+     * Starts capturing the table feed of the given session.
+     *
+     * @param driver The WebDriver instance.
+     * @return The capture, or null if the browser does not support DevTools network interception.
+     */
+    public static FeedCapture start(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            logger.warning("Network feed capture requires a Chromium browser");
+            return null;
+        }
+        try {
+            return new FeedCapture(driver);
+        } catch (RuntimeException e) {
+            logger.warning("Could not start the network feed capture: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the body of the most recent table feed response.
+     *
+     * @return The body, or null if no matching response was seen yet.
+     */
+    public String latestBody() {
+        return body.get();
+    }
+
+    /**
+     * Stops intercepting the network traffic of the session.
+     */
+    @Override
+    public void close() {
+        interceptor.close();
+    }
+}
@@ -0,0 +1,257 @@
+package com.xm.interview.test.feed;
+
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The TableFeed class turns the data feed behind the stocks table into the row maps produced by the table extraction.
+ * <p>
+ * Feeds may hold rows as arrays of cell HTML or as objects of named fields. Instead of hard-coding the layout,
+ * the value of every column is learned from a sample of rows read from the DOM: it is either a feed field,
+ * a template combining fields, e.g. "{description} ({symbol})", or a constant such as "Read more".
+ * The mapping is only as good as its sample, so callers should cross-check the result against the DOM; a column that
+ * several fields fit, but that those fields would fill differently on other rows, is not mapped at all.
+ */
+public class TableFeed {
+    private static final Logger logger = Logger.getLogger(TableFeed.class.getName());
+    private static final Pattern HREF_PATTERN = Pattern.compile("href=\"([^\"]*)\"");
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^{}]+)}");
+
+    private final List<Map<String, String>> records;
+
+    private TableFeed(List<Map<String, String>> records) {
+        this.records = records;
+    }
+
+    /**
+     * Parses a feed body, either a list of rows or an object holding them under {@code data}, {@code aaData}
+     * or its first list value.
+     *
+     * @param body The JSON body of the feed response.
+     * @return The parsed feed.
+     * @throws IllegalArgumentException if the body holds no list of rows
+     */
+    public static TableFeed parse(String body) {
+        Object json = new Json().toType(body, Object.class);
+        if (json instanceof Map) {
+            Map<?, ?> object = (Map<?, ?>) json;
+            json = object.containsKey("data") ? object.get("data") : object.get("aaData");
+            if (json == null) {
+                json = object.values().stream().filter(value -> value instanceof List).findFirst().orElse(null);
+            }
+        }
+        if (!(json instanceof List)) {
+            throw new IllegalArgumentException("The feed holds no list of rows");
+        }
+
+        List<Map<String, String>> records = new ArrayList<>();
+        for (Object row : (List<?>) json) {
+            Map<String, String> record = new LinkedHashMap<>();
+            if (row instanceof List) {
+                List<?> cells = (List<?>) row;
+                for (int i = 0; i < cells.size(); i++) {
+                    addField(record, String.valueOf(i), cells.get(i));
+                }
+            } else if (row instanceof Map) {
+                for (Map.Entry<?, ?> field : ((Map<?, ?>) row).entrySet()) {
+                    addField(record, String.valueOf(field.getKey()), field.getValue());
+                }
+            }
+            records.add(record);
+        }
+        return new TableFeed(records);
+    }
+
+    /**
+     * Adds a field with its text content, and the link it holds as a separate {@code <name>.href} field.
+     */
+    private static void addField(Map<String, String> record, String name, Object value) {
+        if (value instanceof Map || value instanceof List) {
+            return;
+        }
+        String raw = value == null ? "" : String.valueOf(value);
+        record.put(name, text(raw));
+        Matcher href = HREF_PATTERN.matcher(raw);
+        if (href.find()) {
+            record.put(name + ".href", href.group(1).replace("&amp;", "&"));
+        }
+    }
+
+    /**
+     * Strips the HTML tags and entities of a cell and collapses its whitespace.
+     */
+    private static String text(String html) {
+        return TAG_PATTERN.matcher(html).replaceAll(" ")
+                .replace("&nbsp;", " ").replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&")
+                .replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Returns the number of rows in the feed, across all countries.
+     *
+     * @return The number of rows.
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Converts the feed rows of the given country into table rows, using the sample to learn the column values.
+     *
+     * @param sample  Rows read from the DOM, in the shape produced by the table extraction.
+     * @param country The country the table is filtered by, or an empty string for no filter.
+     * @return The rows of the table, or null if a column could not be mapped to the feed unambiguously.
+     */
+    public List<Map<String, String>> toEntries(List<Map<String, String>> sample, String country) {
+        if (sample.isEmpty()) {
+            return null;
+        }
+        List<Map<String, String>> matched = new ArrayList<>();
+        for (Map<String, String> row : sample) {
+            matched.add(bestRecord(row));
+        }
+
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (String column : sample.get(0).keySet()) {
+            Set<String> common = null;
+            for (int i = 0; i < sample.size(); i++) {
+                Set<String> candidates = templates(sample.get(i).getOrDefault(column, ""), matched.get(i), sample.size() > 1);
+                if (common == null) {
+                    common = candidates;
+                } else {
+                    common.retainAll(candidates);
+                }
+            }
+            String template = unambiguousTemplate(common);
+            if (template == null) {
+                return null;
+            }
+            columns.put(column, template);
+        }
+
+        String countryField = null;
+        if (!country.isEmpty()) {
+            for (String field : matched.get(0).keySet()) {
+                if (matched.stream().allMatch(record -> country.equals(record.get(field)))) {
+                    countryField = field;
+                    break;
+                }
+            }
+        }
+
+        List<Map<String, String>> entries = new ArrayList<>();
+        for (Map<String, String> record : records) {
+            if (countryField != null && !country.equals(record.get(countryField))) {
+                continue;
+            }
+            Map<String, String> entry = new LinkedHashMap<>();
+            for (Map.Entry<String, String> column : columns.entrySet()) {
+                entry.put(column.getKey(), render(column.getValue(), record));
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Picks the template of a column among those fitting every sample row. Templates reading feed fields are
+     * preferred over a constant; when several of them fit, they must render the same value on every record,
+     * otherwise the sample cannot tell which field the column shows.
+     *
+     * @return The template, or null if there is none or the choice is ambiguous.
+     */
+    private String unambiguousTemplate(Set<String> candidates) {
+        List<String> fieldTemplates = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (PLACEHOLDER_PATTERN.matcher(candidate).find()) {
+                fieldTemplates.add(candidate);
+            }
+        }
+        if (fieldTemplates.isEmpty()) {
+            return candidates.isEmpty() ? null : candidates.iterator().next();
+        }
+        String template = fieldTemplates.get(0);
+        for (Map<String, String> record : records) {
+            String value = render(template, record);
+            for (String other : fieldTemplates.subList(1, fieldTemplates.size())) {
+                if (!value.equals(render(other, record))) {
+                    logger.info("Feed fields " + template + " and " + other + " both fit the sample rows, but differ on other rows");
+                    return null;
+                }
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Returns the feed record sharing the most values with the given DOM row.
+     */
+    private Map<String, String> bestRecord(Map<String, String> row) {
+        Map<String, String> best = null;
+        int bestScore = -1;
+        for (Map<String, String> record : records) {
+            int score = 0;
+            for (String value : record.values()) {
+                if (!value.isEmpty() && row.values().stream().anyMatch(cell -> cell.contains(value))) {
+                    score += value.length();
+                }
+            }
+            if (score > bestScore) {
+                best = record;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Lists the ways a DOM value can be produced from a record: the fields holding it, then a template
+     * with the record's values replaced by placeholders, longest first, then the value itself as a constant.
+     * A single sample row cannot tell a constant from an unmapped value, so constants need more than one.
+     */
+    private static Set<String> templates(String value, Map<String, String> record, boolean allowConstant) {
+        Set<String> templates = new LinkedHashSet<>();
+        record.forEach((field, fieldValue) -> {
+            if (fieldValue.equals(value)) {
+                templates.add("{" + field + "}");
+            }
+        });
+
+        String template = value;
+        List<Map.Entry<String, String>> fields = new ArrayList<>(record.entrySet());
+        fields.sort(Comparator.comparingInt((Map.Entry<String, String> field) -> field.getValue().length()).reversed());
+        for (Map.Entry<String, String> field : fields) {
+            if (field.getValue().length() >= 3 && template.contains(field.getValue())) {
+                template = template.replace(field.getValue(), "{" + field.getKey() + "}");
+            }
+        }
+        if (!template.equals(value)) {
+            templates.add(template);
+        }
+        if (allowConstant) {
+            templates.add(value);
+        }
+        return templates;
+    }
+
+    private static String render(String template, Map<String, String> record) {
+        Matcher placeholder = PLACEHOLDER_PATTERN.matcher(template);
+        StringBuilder value = new StringBuilder();
+        while (placeholder.find()) {
+            placeholder.appendReplacement(value, Matcher.quoteReplacement(record.getOrDefault(placeholder.group(1), "")));
+        }
+        placeholder.appendTail(value);
+        return value.toString();
+    }
+}
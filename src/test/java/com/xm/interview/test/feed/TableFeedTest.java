@@ -0,0 +1,98 @@
+package com.xm.interview.test.feed;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The TableFeedTest class verifies that {@link TableFeed} maps the stand-in feed and array feeds onto table rows.
+ */
+public class TableFeedTest {
+
+    @Test
+    public void mapsObjectFeedOntoTableRows() throws IOException {
+        TableFeed feed = TableFeed.parse(resource("/standin/data/stocks.json"));
+        List<Map<String, String>> sample = Arrays.asList(
+                row("Aker BP ASA (AKRBP.OL)", "0.06", "1/5000", "20%", "-0.05", "-0.02", "0.30", "akrbp-ol"),
+                row("Aker ASA (AKER.OL)", "0.02", "1/2500", "5%", "-0.05", "0.01", "0.10", "aker-ol"));
+
+        List<Map<String, String>> entries = feed.toEntries(sample, "Norway");
+
+        Assert.assertEquals(23, entries.size());
+        Assert.assertEquals(sample.get(0), entries.get(0));
+        Assert.assertTrue(entries.contains(
+                row("Orkla ASA (ORK.OL)", "0.10", "1/5000", "10%", "-0.10", "-0.02", "0.20", "ork-ol")));
+    }
+
+    @Test
+    public void mapsArrayFeedOntoTableRows() {
+        TableFeed feed = TableFeed.parse("{\"data\": ["
+                + "[\"<b>Orkla ASA</b> (ORK.OL)\", \"0.10\", \"<a href=\\\"/stocks/ork-ol\\\">Read more</a>\"],"
+                + "[\"Aker ASA (AKER.OL)\", \"0.02\", \"<a href=\\\"/stocks/aker-ol\\\">Read more</a>\"]]}");
+        Map<String, String> sample = new LinkedHashMap<>();
+        sample.put("Symbol / Description", "Orkla ASA (ORK.OL)");
+        sample.put("Min Spread", "0.10");
+        sample.put("", "Read more");
+        sample.put("ReadmoreHref", "https://www.xm.com/stocks/ork-ol");
+
+        List<Map<String, String>> entries = feed.toEntries(List.of(sample), "");
+
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals("Aker ASA (AKER.OL)", entries.get(1).get("Symbol / Description"));
+        Assert.assertEquals("https://www.xm.com/stocks/aker-ol", entries.get(1).get("ReadmoreHref"));
+    }
+
+    @Test
+    public void rejectsColumnsMissingFromTheFeed() {
+        TableFeed feed = TableFeed.parse("[{\"symbol\": \"ORK.OL\"}, {\"symbol\": \"AKER.OL\"}]");
+
+        Assert.assertNull(feed.toEntries(List.of(Map.of("Symbol", "ORK.OL", "Margin", "10%")), ""));
+    }
+
+    @Test
+    public void rejectsColumnsThatSeveralFieldsFit() {
+        TableFeed feed = TableFeed.parse("[{\"symbol\": \"ORK.OL\", \"minSpread\": \"0.10\", \"limitStop\": \"0.10\"},"
+                + " {\"symbol\": \"AKER.OL\", \"minSpread\": \"0.02\", \"limitStop\": \"0.10\"}]");
+
+        Assert.assertNull(feed.toEntries(List.of(Map.of("Symbol", "ORK.OL", "Min Spread", "0.10")), ""));
+    }
+
+    @Test
+    public void mapsColumnsThatSeveralFieldsFillAlike() {
+        TableFeed feed = TableFeed.parse("[{\"symbol\": \"ORK.OL\", \"minSpread\": \"0.10\", \"spread\": \"0.10\"},"
+                + " {\"symbol\": \"AKER.OL\", \"minSpread\": \"0.02\", \"spread\": \"0.02\"}]");
+
+        List<Map<String, String>> entries = feed.toEntries(List.of(Map.of("Symbol", "ORK.OL", "Min Spread", "0.10")), "");
+
+        Assert.assertEquals("0.02", entries.get(1).get("Min Spread"));
+    }
+
+    private static Map<String, String> row(String symbol, String minSpread, String tradeSize, String margin,
+                                           String longSwap, String shortSwap, String limitStop, String slug) {
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("Symbol / Description", symbol);
+        row.put("Min Spread", minSpread);
+        row.put("Min/Max Trade Size", tradeSize);
+        row.put("Margin Percentage", margin);
+        row.put("Long Swap Value", longSwap);
+        row.put("Short Swap Value", shortSwap);
+        row.put("Limit and Stop Levels", limitStop);
+        row.put("", "Read more");
+        row.put("ReadmoreHref", "http://localhost:8089/stocks/" + slug);
+        return row;
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = TableFeedTest.class.getResourceAsStream(name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
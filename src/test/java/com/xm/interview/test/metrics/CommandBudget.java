@@ -0,0 +1,64 @@
+package com.xm.interview.test.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * The CommandBudget class holds the maximum number of WebDriver commands a labelled piece of code may send,
+ * and fails the test when a measured call goes over it.
+ * <p>
+ * Budgets are declared with {@link #declare(String, int)} or with system properties such as
+ * {@code -DCommandBudget.extractTableData=5}; properties that are not a number are skipped with a warning.
+ * Budgets are only enforced while {@link CommandCounter} is enabled.
+ */
+public class CommandBudget {
+    private static final Logger logger = Logger.getLogger(CommandBudget.class.getName());
+    private static final String PROPERTY_PREFIX = "CommandBudget.";
+    private static final Map<String, Integer> BUDGETS = new ConcurrentHashMap<>();
+
+    static {
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                try {
+                    BUDGETS.put(name.substring(PROPERTY_PREFIX.length()), Integer.parseInt(System.getProperty(name).trim()));
+                } catch (NumberFormatException e) {
+                    logger.warning("Ignoring " + name + "=" + System.getProperty(name) + ": the budget is not a number");
+                }
+            }
+        }
+    }
+
+    private CommandBudget() {}
+
+    /**
+     * Declares the command budget of a label, unless a system property already set one.
+     *
+     * @param label       The label of the measured code, e.g. a step or method name.
+     * @param maxCommands The maximum number of WebDriver commands allowed per call.
+     */
+    public static void declare(String label, int maxCommands) {
+        BUDGETS.putIfAbsent(label, maxCommands);
+    }
+
+    /**
+     * Runs the given action and asserts it stayed within the budget declared for the label.
+     *
+     * @param label  The label of the measured code.
+     * @param action The action to measure.
+     * @param <T>    The type of the result.
+     * @return The result of the action.
+     * @throws AssertionError if the action sent more commands than its budget allows
+     */
+    public static <T> T check(String label, Supplier<T> action) {
+        long before = CommandCounter.commands();
+        T result = action.get();
+        long used = CommandCounter.commands() - before;
+        Integer budget = BUDGETS.get(label);
+        if (budget != null && CommandCounter.isEnabled() && used > budget) {
+            throw new AssertionError("Command budget exceeded for '" + label + "': " + used + " WebDriver commands, budget is " + budget);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package com.xm.interview.test.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The CommandCounter class counts and times every WebDriver command (findElement, getText, getAttribute,
+ * executeScript, ...) sent through a decorated driver. Counts are kept per thread, so the command cost of a
+ * piece of code can be measured with {@link #commands()} before and after it.
+ * <p>
+ * Counting is on by default and can be turned off with {@code -DCommandCounting=false}.
+ */
+public class CommandCounter implements WebDriverListener {
+    private static final CommandCounter INSTANCE = new CommandCounter();
+
+    /**
+     * Calls that only return a local helper object and never reach the browser.
+     */
+    private static final Set<String> LOCAL_CALLS = new HashSet<>(Arrays.asList(
+            "manage", "navigate", "switchTo", "window", "timeouts", "logs", "getDevTools", "maybeGetDevTools",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals"));
+
+    private static final ThreadLocal<long[]> THREAD_COMMANDS = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<Deque<Long>> THREAD_STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Map<String, AtomicLong> COUNTS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> NANOS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(CommandCounter::printSummary));
+    }
+
+    private CommandCounter() {}
+
+    /**
+     * Returns whether command counting was enabled through the {@code CommandCounting} system property.
+     *
+     * @return True if drivers should be decorated with the counter, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("CommandCounting", "true"));
+    }
+
+    /**
+     * Decorates the given driver so every command sent through it is counted and timed.
+     *
+     * @param driver The WebDriver instance to decorate.
+     * @return The decorated WebDriver instance.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Returns the number of WebDriver commands sent by the current thread so far.
+     *
+     * @return The command count of the current thread.
+     */
+    public static long commands() {
+        return THREAD_COMMANDS.get()[0];
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        THREAD_STARTS.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private static void finish(Method method) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        Long start = THREAD_STARTS.get().poll();
+        long elapsed = start == null ? 0 : System.nanoTime() - start;
+        THREAD_COMMANDS.get()[0]++;
+        COUNTS.computeIfAbsent(method.getName(), k -> new AtomicLong()).incrementAndGet();
+        NANOS.computeIfAbsent(method.getName(), k -> new AtomicLong()).addAndGet(elapsed);
+    }
+
+    private static void printSummary() {
+        if (COUNTS.isEmpty()) {
+            return;
+        }
+        System.out.println("WebDriver commands (count, total ms):");
+        for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(COUNTS).entrySet()) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(NANOS.get(entry.getKey()).get());
+            System.out.println("  " + entry.getKey() + ": " + entry.getValue().get() + ", " + millis + " ms");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.xm.interview.test.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The LatencyHistogram class collects latency samples in nanoseconds and computes percentiles over them.
+ * Samples are kept exactly, which is fine for the few hundred samples a step produces across runs.
+ */
+public class LatencyHistogram {
+    private final List<Long> samples = new ArrayList<>();
+
+    /**
+     * Records a latency sample.
+     *
+     * @param nanos The measured latency, in nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        samples.add(nanos);
+    }
+
+    /**
+     * Returns a copy of the recorded samples.
+     *
+     * @return The samples, in nanoseconds, in recording order.
+     */
+    public synchronized List<Long> samples() {
+        return new ArrayList<>(samples);
+    }
+
+    /**
+     * Returns the number of recorded samples.
+     *
+     * @return The sample count.
+     */
+    public synchronized int count() {
+        return samples.size();
+    }
+
+    /**
+     * Returns the given percentile of the recorded samples using the nearest-rank method.
+     *
+     * @param percentile The percentile to compute, between 0 and 100.
+     * @return The percentile in nanoseconds, or 0 if no sample was recorded.
+     */
+    public synchronized long percentile(double percentile) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(rank, sorted.size()) - 1));
+    }
+
+    /**
+     * Returns the mean of the recorded samples.
+     *
+     * @return The mean in nanoseconds, or 0 if no sample was recorded.
+     */
+    public synchronized long mean() {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (long sample : samples) {
+            total += sample;
+        }
+        return total / samples.size();
+    }
+
+    /**
+     * Returns the largest recorded sample.
+     *
+     * @return The maximum in nanoseconds, or 0 if no sample was recorded.
+     */
+    public synchronized long max() {
+        return samples.isEmpty() ? 0 : Collections.max(samples);
+    }
+}
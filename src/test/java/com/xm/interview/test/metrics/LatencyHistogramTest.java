@@ -0,0 +1,35 @@
+package com.xm.interview.test.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * The LatencyHistogramTest class verifies the percentile computation of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentilesUseNearestRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long sample = 100; sample >= 1; sample--) {
+            histogram.record(sample);
+        }
+
+        Assert.assertEquals(100, histogram.count());
+        Assert.assertEquals(50, histogram.percentile(50));
+        Assert.assertEquals(95, histogram.percentile(95));
+        Assert.assertEquals(99, histogram.percentile(99));
+        Assert.assertEquals(100, histogram.max());
+        Assert.assertEquals(50, histogram.mean());
+    }
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(0, histogram.percentile(99));
+        Assert.assertEquals(0, histogram.mean());
+        Assert.assertEquals(0, histogram.max());
+    }
+}
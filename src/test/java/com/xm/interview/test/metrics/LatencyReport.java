@@ -0,0 +1,133 @@
+package com.xm.interview.test.metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * The LatencyReport class persists step latencies so they can be compared across repeated runs.
+ * <p>
+ * Every run appends its raw samples to {@code step-samples.csv}; the summaries {@code step-latency.json} and
+ * {@code step-latency.csv} are then rebuilt from all samples in that file, with p50/p95/p99 per browser,
+ * resolution and step. The directory defaults to {@code target/perf} and can be changed with {@code -DPerfReportDir}.
+ */
+public class LatencyReport {
+    private static final Logger logger = Logger.getLogger(LatencyReport.class.getName());
+    private static final String SAMPLES_HEADER = "timestamp,browser,resolution,step,nanos";
+
+    private LatencyReport() {}
+
+    /**
+     * Returns the directory the performance reports are written to.
+     *
+     * @return The report directory.
+     */
+    public static Path reportDirectory() {
+        return Paths.get(System.getProperty("PerfReportDir", "target/perf"));
+    }
+
+    /**
+     * Appends the samples of this run and rebuilds the summaries.
+     *
+     * @param histograms The histograms recorded by {@link StepTimer}.
+     */
+    static void write(Map<StepTimer.StepKey, LatencyHistogram> histograms) {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        try {
+            Path directory = reportDirectory();
+            Files.createDirectories(directory);
+            Path samplesFile = directory.resolve("step-samples.csv");
+            appendSamples(samplesFile, histograms);
+            Map<String, LatencyHistogram> all = readSamples(samplesFile);
+            writeSummaries(directory, all);
+            System.out.println("Step latency report written to " + directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Could not write the step latency report: " + e.getMessage());
+        }
+    }
+
+    private static void appendSamples(Path samplesFile, Map<StepTimer.StepKey, LatencyHistogram> histograms) throws IOException {
+        boolean newFile = !Files.exists(samplesFile);
+        long timestamp = System.currentTimeMillis();
+        try (BufferedWriter writer = Files.newBufferedWriter(samplesFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (newFile) {
+                writer.write(SAMPLES_HEADER);
+                writer.newLine();
+            }
+            for (Map.Entry<StepTimer.StepKey, LatencyHistogram> entry : histograms.entrySet()) {
+                StepTimer.StepKey key = entry.getKey();
+                for (long sample : entry.getValue().samples()) {
+                    writer.write(timestamp + "," + csv(key.browser) + "," + csv(key.resolution) + "," + csv(key.step) + "," + sample);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    private static Map<String, LatencyHistogram> readSamples(Path samplesFile) throws IOException {
+        Map<String, LatencyHistogram> all = new TreeMap<>();
+        List<String> lines = Files.readAllLines(samplesFile, StandardCharsets.UTF_8);
+        for (String line : lines.subList(1, lines.size())) {
+            int last = line.lastIndexOf(',');
+            int first = line.indexOf(',');
+            if (first < 0 || last <= first) {
+                continue;
+            }
+            all.computeIfAbsent(line.substring(first + 1, last), k -> new LatencyHistogram())
+                    .record(Long.parseLong(line.substring(last + 1)));
+        }
+        return all;
+    }
+
+    private static void writeSummaries(Path directory, Map<String, LatencyHistogram> all) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder csv = new StringBuilder("browser,resolution,step,count,p50_ms,p95_ms,p99_ms,mean_ms,max_ms\n");
+        for (Map.Entry<String, LatencyHistogram> entry : all.entrySet()) {
+            String[] key = entry.getKey().split(",", 3);
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("browser", key[0]);
+            row.put("resolution", key[1]);
+            row.put("step", key[2]);
+            row.put("count", histogram.count());
+            row.put("p50Ms", millis(histogram.percentile(50)));
+            row.put("p95Ms", millis(histogram.percentile(95)));
+            row.put("p99Ms", millis(histogram.percentile(99)));
+            row.put("meanMs", millis(histogram.mean()));
+            row.put("maxMs", millis(histogram.max()));
+            rows.add(row);
+            csv.append(entry.getKey()).append(',').append(histogram.count())
+                    .append(',').append(millis(histogram.percentile(50)))
+                    .append(',').append(millis(histogram.percentile(95)))
+                    .append(',').append(millis(histogram.percentile(99)))
+                    .append(',').append(millis(histogram.mean()))
+                    .append(',').append(millis(histogram.max()))
+                    .append('\n');
+        }
+        Files.write(directory.resolve("step-latency.json"), new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("step-latency.csv"), csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static String csv(String value) {
+        return value.replace(',', ';');
+    }
+}
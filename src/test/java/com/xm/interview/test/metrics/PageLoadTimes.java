@@ -0,0 +1,146 @@
+package com.xm.interview.test.metrics;
+
+import com.xm.interview.test.base.RequestBlocker;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * The PageLoadTimes class records the load time of every page the tests navigate to, taken from the Navigation Timing
+ * API, together with the number of third-party requests the {@link RequestBlocker} blocked on it.
+ * <p>
+ * Runs without blocking store their mean load time per page as a baseline in {@code page-load-baseline.properties}
+ * under the report directory; runs with blocking report the time saved against it when the JVM exits.
+ * Recording is active while blocking is enabled or with {@code -DPageLoadStats=true}.
+ */
+public class PageLoadTimes {
+    private static final Logger logger = Logger.getLogger(PageLoadTimes.class.getName());
+    /**
+     * Returns [[path, load ms] of the current page if it finished loading, queued [path, load ms] of earlier pages]. A page still loading gets a load listener that queues its time in sessionStorage, so it is
+     * read on a later call, from the next page of the same site or before the session is closed.
+     */
+    private static final String NAVIGATION_SCRIPT =
+            "var key = '__xmPageLoads';" +
+            "function take() {" +
+            "  try { var loads = JSON.parse(sessionStorage.getItem(key) || '[]'); sessionStorage.removeItem(key); return loads; }" +
+            "  catch (e) { return []; }" +
+            "}" +
+            "function queue(load) {" +
+            "  try { var loads = JSON.parse(sessionStorage.getItem(key) || '[]'); loads.push(load); sessionStorage.setItem(key, JSON.stringify(loads)); }" +
+            "  catch (e) {}" +
+            "}" +
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "var current = null;" +
+            "if (nav && !window.__xmLoadRecorded) {" +
+            "  if (nav.loadEventEnd > 0) {" +
+            "    window.__xmLoadRecorded = true;" +
+            "    current = [location.pathname, Math.round(nav.loadEventEnd)];" +
+            "  } else if (!window.__xmLoadListener) {" +
+            "    window.__xmLoadListener = true;" +
+            "    window.addEventListener('load', function () {" +
+            "      setTimeout(function () {" +
+            "        if (window.__xmLoadRecorded) { return; }" +
+            "        window.__xmLoadRecorded = true;" +
+            "        queue([location.pathname, Math.round(performance.getEntriesByType('navigation')[0].loadEventEnd)]);" +
+            "      }, 0);" +
+            "    });" +
+            "  }" +
+            "}" +
+            "return [current, take()];";
+
+    private static final Map<String, LatencyHistogram> LOAD_TIMES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PageLoadTimes::writeSummary));
+    }
+
+    private PageLoadTimes() {}
+
+    /**
+     * Returns whether page load times are recorded.
+     *
+     * @return True if blocking is enabled or {@code PageLoadStats} is set, false otherwise.
+     */
+    public static boolean isEnabled() {
+        return RequestBlocker.isEnabled() || Boolean.parseBoolean(System.getProperty("PageLoadStats", "false"));
+    }
+
+    /**
+     * Records the load time of the current page, once per navigation. Steps only wait for the signals they need,
+     * so the page may still be loading; its time is then recorded by a later call, on the next page or when the
+     * session is closed. Blocked requests are counted by the {@link RequestBlocker} against the page that issued them.
+     *
+     * @param driver The WebDriver instance.
+     */
+    public static void record(WebDriver driver) {
+        List<?> navigation = (List<?>) ((JavascriptExecutor) driver).executeScript(NAVIGATION_SCRIPT);
+        if (navigation.get(0) != null) {
+            recordLoad((List<?>) navigation.get(0));
+        }
+        for (Object load : (List<?>) navigation.get(1)) {
+            recordLoad((List<?>) load);
+        }
+    }
+
+    private static void recordLoad(List<?> load) {
+        String page = String.valueOf(load.get(0));
+        long loadMillis = ((Number) load.get(1)).longValue();
+        if (loadMillis <= 0) {
+            return;
+        }
+        LOAD_TIMES.computeIfAbsent(page, p -> new LatencyHistogram()).record(loadMillis * 1_000_000);
+        System.out.println("Page " + page + " loaded in " + loadMillis + " ms");
+    }
+
+    private static void writeSummary() {
+        if (LOAD_TIMES.isEmpty()) {
+            return;
+        }
+        Path baselineFile = LatencyReport.reportDirectory().resolve("page-load-baseline.properties");
+        Properties baseline = new Properties();
+        if (Files.exists(baselineFile)) {
+            try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+                baseline.load(reader);
+            } catch (IOException e) {
+                logger.warning("Could not read the page load baseline: " + e.getMessage());
+            }
+        }
+
+        System.out.println("Page load times:");
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(LOAD_TIMES).entrySet()) {
+            String page = entry.getKey();
+            long meanMillis = entry.getValue().mean() / 1_000_000;
+            String line = String.format("  %-40s mean %6d ms over %d loads, %d requests blocked",
+                    page, meanMillis, entry.getValue().count(), RequestBlocker.blockedCount(page));
+            if (RequestBlocker.isEnabled() && baseline.containsKey(page)) {
+                line += ", saved " + (Long.parseLong(baseline.getProperty(page)) - meanMillis) + " ms";
+            } else if (!RequestBlocker.isEnabled()) {
+                baseline.setProperty(page, String.valueOf(meanMillis));
+            }
+            System.out.println(line);
+        }
+
+        if (!RequestBlocker.isEnabled()) {
+            try {
+                Files.createDirectories(baselineFile.getParent());
+                try (Writer writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8)) {
+                    baseline.store(writer, "Mean page load time in ms without request blocking");
+                }
+            } catch (IOException e) {
+                logger.warning("Could not write the page load baseline: " + e.getMessage());
+            }
+        }
+    }
+}
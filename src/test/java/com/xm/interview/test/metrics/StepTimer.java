@@ -0,0 +1,105 @@
+package com.xm.interview.test.metrics;
+
+import com.xm.interview.test.project.RunContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The StepTimer class times the steps of a test flow with a monotonic clock and records them into histograms
+ * keyed by browser, resolution and step. The samples are written to the latency report when the JVM exits.
+ * Each step is also checked against its {@link CommandBudget}, if one was declared.
+ */
+public class StepTimer {
+    private static final Map<StepKey, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> LatencyReport.write(HISTOGRAMS)));
+    }
+
+    private StepTimer() {}
+
+    /**
+     * Runs and times a step of the current run.
+     *
+     * @param step   The name of the step.
+     * @param action The action performing the step.
+     */
+    public static void time(String step, Runnable action) {
+        time(step, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs and times a step of the current run and returns its result.
+     *
+     * @param step   The name of the step.
+     * @param action The action performing the step.
+     * @param <T>    The type of the result.
+     * @return The result of the action.
+     */
+    public static <T> T time(String step, Supplier<T> action) {
+        long start = System.nanoTime();
+        long commandsBefore = CommandCounter.commands();
+        try {
+            return CommandBudget.check(step, action);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            record(step, elapsed);
+            System.out.println("Step " + step + ": " + (CommandCounter.commands() - commandsBefore)
+                    + " WebDriver commands in " + elapsed / 1_000_000 + " ms");
+        }
+    }
+
+    /**
+     * Records an already measured step latency for the current run.
+     *
+     * @param step  The name of the step.
+     * @param nanos The measured latency, in nanoseconds.
+     */
+    public static void record(String step, long nanos) {
+        String browser = "unknown";
+        String resolution = "unknown";
+        if (RunContext.isOpen()) {
+            RunContext context = RunContext.current();
+            browser = context.getBrowser();
+            resolution = context.getBrowserSize() == null ? "unknown" : context.getBrowserSize();
+        }
+        HISTOGRAMS.computeIfAbsent(new StepKey(browser, resolution, step), k -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Identifies the histogram of a step for a browser and resolution.
+     */
+    static final class StepKey {
+        final String browser;
+        final String resolution;
+        final String step;
+
+        StepKey(String browser, String resolution, String step) {
+            this.browser = browser;
+            this.resolution = resolution;
+            this.step = step;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StepKey)) {
+                return false;
+            }
+            StepKey other = (StepKey) o;
+            return browser.equals(other.browser) && resolution.equals(other.resolution) && step.equals(other.step);
+        }
+
+        @Override
+        public int hashCode() {
+            return (browser.hashCode() * 31 + resolution.hashCode()) * 31 + step.hashCode();
+        }
+    }
+}
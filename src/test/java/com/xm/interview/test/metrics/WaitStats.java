@@ -0,0 +1,100 @@
+package com.xm.interview.test.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * The WaitStats class records how long each wait condition took to be satisfied, and how often and how long it
+ * waited before timing out. When the JVM exits the conditions are printed by total waiting time, timeouts included,
+ * and written to {@code wait-latency.csv} under the report directory, to show which conditions dominate and which
+ * timeouts can be tightened.
+ */
+public class WaitStats {
+    private static final Logger logger = Logger.getLogger(WaitStats.class.getName());
+    private static final Map<String, LatencyHistogram> SATISFIED = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> TIMEOUTS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WaitStats::writeSummary));
+    }
+
+    private WaitStats() {}
+
+    /**
+     * Records a satisfied wait.
+     *
+     * @param condition The name of the condition.
+     * @param nanos     The time it took to be satisfied.
+     */
+    public static void recordSatisfied(String condition, long nanos) {
+        SATISFIED.computeIfAbsent(condition, c -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records a wait that timed out.
+     *
+     * @param condition The name of the condition.
+     * @param nanos     The time it waited before timing out.
+     */
+    public static void recordTimeout(String condition, long nanos) {
+        TIMEOUTS.computeIfAbsent(condition, c -> new LatencyHistogram()).record(nanos);
+    }
+
+    private static void writeSummary() {
+        if (SATISFIED.isEmpty() && TIMEOUTS.isEmpty()) {
+            return;
+        }
+        List<String> conditions = new ArrayList<>(SATISFIED.keySet());
+        TIMEOUTS.keySet().stream().filter(c -> !SATISFIED.containsKey(c)).forEach(conditions::add);
+        conditions.sort(Comparator.comparingLong(WaitStats::totalNanos).reversed());
+
+        System.out.println("Wait conditions by total waiting time:");
+        List<String> lines = new ArrayList<>();
+        lines.add("condition,count,timeouts,total_ms,timeout_ms,p50_ms,p95_ms,max_ms");
+        for (String condition : conditions) {
+            LatencyHistogram histogram = SATISFIED.getOrDefault(condition, new LatencyHistogram());
+            LatencyHistogram timeouts = TIMEOUTS.getOrDefault(condition, new LatencyHistogram());
+            long total = totalNanos(condition) / 1_000_000;
+            long timedOut = total(timeouts) / 1_000_000;
+            long p50 = histogram.percentile(50) / 1_000_000;
+            long p95 = histogram.percentile(95) / 1_000_000;
+            long max = histogram.max() / 1_000_000;
+            System.out.println(String.format("  %-24s %5d waits, %3d timeouts, total %7d ms (%7d ms timed out), p50 %5d ms, p95 %5d ms, max %5d ms",
+                    condition, histogram.count(), timeouts.count(), total, timedOut, p50, p95, max));
+            lines.add(condition + "," + histogram.count() + "," + timeouts.count() + "," + total + "," + timedOut + "," + p50 + "," + p95 + "," + max);
+        }
+
+        try {
+            Path directory = LatencyReport.reportDirectory();
+            Files.createDirectories(directory);
+            try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve("wait-latency.csv"), StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not write the wait latency report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the total time spent waiting for the given condition, satisfied and timed out.
+     */
+    private static long totalNanos(String condition) {
+        return total(SATISFIED.get(condition)) + total(TIMEOUTS.get(condition));
+    }
+
+    private static long total(LatencyHistogram histogram) {
+        return histogram == null ? 0 : histogram.mean() * histogram.count();
+    }
+}
@@ -0,0 +1,103 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.metrics.WaitStats;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The AdaptiveWait class waits for conditions with exponential backoff: the first polls follow each other within
+ * a few milliseconds, and the interval doubles up to a cap, so fast conditions return almost immediately while
+ * slow ones are not polled more than needed.
+ * <p>
+ * The first interval and the cap are set with {@code WaitInitialPollMs} (default 5) and {@code WaitMaxPollMs}
+ * (default 250). The timeout of a condition can be overridden with {@code -DWaitTimeout.<condition>=<seconds>}.
+ * Every wait is recorded in the {@link WaitStats}.
+ */
+public class AdaptiveWait {
+    private static final long INITIAL_POLL_MILLIS = Long.getLong("WaitInitialPollMs", 5);
+    private static final long MAX_POLL_MILLIS = Long.getLong("WaitMaxPollMs", 250);
+
+    private AdaptiveWait() {}
+
+    /**
+     * Waits until the condition returns a value other than null or false, ignoring missing and stale elements.
+     *
+     * @param input          The input the condition is evaluated on, usually the WebDriver instance.
+     * @param condition      The name of the condition, used for its timeout override and its statistics.
+     * @param defaultTimeout The timeout when no override is configured for the condition.
+     * @param check          The condition.
+     * @param <I>            The type of the input.
+     * @param <T>            The type of the value returned by the condition.
+     * @return The value returned by the condition.
+     * @throws TimeoutException if the condition was not satisfied within the timeout
+     */
+    public static <I, T> T until(I input, String condition, Duration defaultTimeout, Function<? super I, T> check) {
+        return until(input, condition, defaultTimeout, check, true);
+    }
+
+    /**
+     * Waits until the condition returns a value other than null or false, recording the wait in the {@link WaitStats}
+     * only if asked to, so the unit tests of the waits stay out of the report.
+     *
+     * @param record Whether to record the wait.
+     * @see #until(Object, String, Duration, Function)
+     */
+    static <I, T> T until(I input, String condition, Duration defaultTimeout, Function<? super I, T> check, boolean record) {
+        long timeoutNanos = timeout(condition, defaultTimeout).toNanos();
+        long start = System.nanoTime();
+        long pollMillis = INITIAL_POLL_MILLIS;
+        RuntimeException lastException = null;
+
+        while (true) {
+            try {
+                T value = check.apply(input);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    if (record) {
+                        WaitStats.recordSatisfied(condition, System.nanoTime() - start);
+                    }
+                    return value;
+                }
+                lastException = null;
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+
+            long remainingNanos = timeoutNanos - (System.nanoTime() - start);
+            if (remainingNanos <= 0) {
+                if (record) {
+                    WaitStats.recordTimeout(condition, System.nanoTime() - start);
+                }
+                throw new TimeoutException("Expected condition failed: waiting for " + condition + " (tried for "
+                        + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms with adaptive polling)", lastException);
+            }
+            sleep(Math.min(pollMillis, TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Returns the timeout of the given condition, from its {@code WaitTimeout.<condition>} system property if set.
+     *
+     * @param condition      The name of the condition.
+     * @param defaultTimeout The timeout when no override is configured.
+     * @return The timeout.
+     */
+    public static Duration timeout(String condition, Duration defaultTimeout) {
+        String seconds = System.getProperty("WaitTimeout." + condition);
+        return seconds == null ? defaultTimeout : Duration.ofMillis((long) (Double.parseDouble(seconds) * 1000));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.xm.interview.test.pages;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * The AdaptiveWaitTest class verifies the polling, exception handling and timeouts of {@link AdaptiveWait}.
+ */
+public class AdaptiveWaitTest {
+
+    @Test
+    public void pollsOftenBeforeTheConditionIsSatisfied() {
+        AtomicInteger polls = new AtomicInteger();
+        long satisfiedAt = System.nanoTime() + Duration.ofMillis(200).toNanos();
+
+        String value = AdaptiveWait.until(polls, "backoff", Duration.ofSeconds(5),
+                counter -> {
+                    counter.incrementAndGet();
+                    return System.nanoTime() >= satisfiedAt ? "done" : null;
+                }, false);
+
+        Assert.assertEquals("done", value);
+        // The backoff polls at 0, 5, 15, 35, 75, 155 and 315 ms; a fixed 500 ms poll would only poll twice
+        Assert.assertTrue("Polled " + polls.get() + " times", polls.get() >= 4);
+    }
+
+    @Test
+    public void ignoresMissingElementsUntilTheyAppear() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Boolean found = AdaptiveWait.until(attempts, "missingElements", Duration.ofSeconds(5), counter -> {
+            if (counter.incrementAndGet() < 3) {
+                throw new NoSuchElementException("not yet");
+            }
+            return true;
+        }, false);
+
+        Assert.assertTrue(found);
+        Assert.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void failsAfterTheConfiguredTimeout() {
+        System.setProperty("WaitTimeout.neverSatisfied", "0.1");
+        try {
+            long start = System.nanoTime();
+            Assert.assertThrows(TimeoutException.class,
+                    () -> AdaptiveWait.until("input", "neverSatisfied", Duration.ofSeconds(30), input -> false, false));
+            // Far below the 30 s default, so the override applied
+            Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 10);
+        } finally {
+            System.clearProperty("WaitTimeout.neverSatisfied");
+        }
+    }
+}
@@ -4,12 +4,27 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.support.ui.*;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.xm.interview.test.base.ConsentManager;
+import com.xm.interview.test.cache.SnapshotCache;
+import com.xm.interview.test.compare.ComparisonReport;
+import com.xm.interview.test.compare.DataComparator;
+import com.xm.interview.test.feed.FeedCapture;
+import com.xm.interview.test.feed.TableFeed;
+import com.xm.interview.test.metrics.CommandBudget;
+import com.xm.interview.test.metrics.PageLoadTimes;
 import com.xm.interview.test.project.Config;
+import com.xm.interview.test.project.EntrySource;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.project.SymbolLookup;
+import com.xm.interview.test.project.TableExtraction;
 import org.testng.Assert;
 
 /**
@@ -18,6 +33,190 @@ import org.testng.Assert;
 public class CommonPages {
     private static final int TIMEOUT_IN_SECONDS = 10;
 
+    /**
+     * Serializes the rows of the stocks table into arrays of [header, value] pairs.
+     * Hidden responsive cells are read from the DOM directly, so no row has to be expanded first.
+     */
+    private static final String EXTRACT_TABLE_SCRIPT =
+            "var headers = arguments[0];" +
+            "var table = document.getElementById('DataTables_Table_0');" +
+            "if (!table) { return []; }" +
+            "var headerCells = table.querySelectorAll('thead tr th');" +
+            "function isVisible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+            "function clean(text) { return (text || '').replace(/\\s+/g, ' ').trim(); }" +
+            "var result = [];" +
+            "var rows = table.querySelectorAll('tbody > tr');" +
+            "for (var r = 0; r < rows.length; r++) {" +
+            "  var row = rows[r];" +
+            "  if (!/\\b(parent|odd|even)\\b/.test(row.className)) { continue; }" +
+            "  var pairs = [];" +
+            "  var cells = row.getElementsByTagName('td');" +
+            "  for (var i = 0; i < cells.length && i < headers.length; i++) {" +
+            "    var cell = cells[i];" +
+            "    var header = headers[i].trim();" +
+            "    var link = cell.getElementsByTagName('a')[0];" +
+            "    var value;" +
+            "    if (isVisible(cell)) {" +
+            "      value = clean(cell.innerText);" +
+            "    } else {" +
+            "      if (!header && headerCells[i]) { header = clean(headerCells[i].textContent); }" +
+            "      value = link ? link.href.trim() : clean(cell.textContent);" +
+            "    }" +
+            "    pairs.push([header, value]);" +
+            "    if (link) { pairs.push(['ReadmoreHref', link.href.trim()]); }" +
+            "  }" +
+            "  var child = row.nextElementSibling;" +
+            "  if (/\\bparent\\b/.test(row.className) && child && child.className === 'child') {" +
+            "    var items = child.getElementsByTagName('li');" +
+            "    for (var j = 0; j < items.length; j++) {" +
+            "      var title = items[j].getElementsByClassName('dtr-title')[0];" +
+            "      var data = items[j].getElementsByClassName('dtr-data')[0];" +
+            "      if (!title || !data) { continue; }" +
+            "      var hiddenHeader = clean(title.innerText);" +
+            "      var hiddenValue = clean(data.innerText);" +
+            "      var hiddenLink = items[j].getElementsByTagName('a')[0];" +
+            "      if (hiddenLink) { hiddenValue = hiddenLink.href.trim(); pairs.push(['ReadmoreHref', hiddenValue]); }" +
+            "      pairs.push([hiddenHeader ? hiddenHeader : 'ReadmoreHref', hiddenValue]);" +
+            "    }" +
+            "  }" +
+            "  result.push(pairs);" +
+            "}" +
+            "return result;";
+
+    /**
+     * Returns whether the first cell of the stocks table shows the responsive row control.
+     */
+    private static final String RESPONSIVE_LAYOUT_SCRIPT =
+            "var cell = document.querySelector('#DataTables_Table_0 tbody tr td');" +
+            "if (!cell) { return false; }" +
+            "var content = window.getComputedStyle(cell, '::before').getPropertyValue('content');" +
+            "return !!content && content !== 'none';";
+
+    /**
+     * Registers one-shot listeners that flag the next redraw of the stocks table, either through the
+     * DataTables {@code draw.dt} event or a mutation of the table body, and returns the current info text.
+     */
+    private static final String ARM_TABLE_REDRAW_SCRIPT =
+            "window.__xmTableRedrawn = false;" +
+            "var table = document.getElementById('DataTables_Table_0');" +
+            "if (table && window.jQuery && window.jQuery.fn.dataTable) {" +
+            "  window.jQuery(table).one('draw.dt', function () { window.__xmTableRedrawn = true; });" +
+            "}" +
+            "if (table && table.tBodies.length && window.MutationObserver) {" +
+            "  var observer = new MutationObserver(function () { window.__xmTableRedrawn = true; observer.disconnect(); });" +
+            "  observer.observe(table.tBodies[0], {childList: true});" +
+            "}" +
+            "var info = document.getElementById('DataTables_Table_0_info');" +
+            "return info ? info.textContent : '';";
+
+    /**
+     * Defines tableRedrawn(previousInfo), which reports whether the stocks table was redrawn since it was armed,
+     * or its info text changed. Shared with the {@link Readiness#tableRedrawn} signal.
+     */
+    static final String TABLE_REDRAWN_FUNCTION =
+            "function tableRedrawn(previousInfo) {" +
+            "  var info = document.getElementById('DataTables_Table_0_info');" +
+            "  return window.__xmTableRedrawn === true || (info !== null && info.textContent !== previousInfo);" +
+            "}";
+
+    private static final String TABLE_REDRAWN_SCRIPT = TABLE_REDRAWN_FUNCTION + "return tableRedrawn(arguments[0]);";
+
+    /**
+     * Switches the client-side DataTables instance of the stocks table to show all filtered rows on one page.
+     * Returns the previous page length, or null when the API is unavailable or the table is server-side.
+     */
+    private static final String SHOW_ALL_ROWS_SCRIPT =
+            "var $ = window.jQuery;" +
+            "if (!$ || !$.fn.dataTable || !$.fn.dataTable.isDataTable('#DataTables_Table_0')) { return null; }" +
+            "var api = $('#DataTables_Table_0').DataTable();" +
+            "if (api.settings()[0].oFeatures.bServerSide) { return null; }" +
+            "var length = api.page.len();" +
+            "api.page.len(-1).draw(false);" +
+            "return length;";
+
+    /**
+     * Restores the page length of the stocks table to the given value.
+     */
+    private static final String RESTORE_PAGE_LENGTH_SCRIPT =
+            "window.jQuery('#DataTables_Table_0').DataTable().page.len(arguments[0]).draw(false);";
+
+    /**
+     * Returns the number of filtered rows known to the DataTables instance, or null when the API is unavailable,
+     * together with the text of the table info element.
+     */
+    private static final String TOTAL_ENTRIES_SCRIPT =
+            "var $ = window.jQuery;" +
+            "var total = null;" +
+            "if ($ && $.fn.dataTable && $.fn.dataTable.isDataTable('#DataTables_Table_0')) {" +
+            "  total = $('#DataTables_Table_0').DataTable().page.info().recordsDisplay;" +
+            "}" +
+            "var info = document.getElementById('DataTables_Table_0_info');" +
+            "return [total, info ? info.textContent : ''];";
+
+    /**
+     * Matches the total number of entries in the table info text,
+     * e.g. Showing 1 to 10 of 23 entries (filtered from 1,311 total entries)
+     */
+    private static final Pattern TOTAL_ENTRIES_PATTERN = Pattern.compile("Showing [\\d,]+ to [\\d,]+ of ([\\d,]+) entries");
+
+    /**
+     * Returns the country of the active filter and the origin of the page, followed by the same values as
+     * {@link #TOTAL_ENTRIES_SCRIPT} and the text of the rows on the current page, to identify a table in the
+     * {@link SnapshotCache} and filter its data feed.
+     */
+    private static final String TABLE_FINGERPRINT_SCRIPT =
+            "var active = document.querySelector('[type=button][data-value].active');" +
+            "var rows = document.querySelectorAll('#DataTables_Table_0 tbody > tr');" +
+            "var text = [];" +
+            "for (var i = 0; i < rows.length; i++) { text.push(rows[i].textContent.replace(/\\s+/g, ' ').trim()); }" +
+            "return [active ? active.getAttribute('data-value') : '', location.origin]" +
+            "  .concat((function() {" + TOTAL_ENTRIES_SCRIPT + "})(), [text.join('\\n')]);";
+
+    /**
+     * Puts the given text into the search box of the stocks table and triggers a single redraw.
+     * Returns false when the box already held the text, in which case the table is not redrawn.
+     */
+    private static final String SEARCH_TABLE_SCRIPT =
+            "var value = arguments[0];" +
+            "var input = document.querySelector('#DataTables_Table_0_filter input[type=search]');" +
+            "if (!input || input.value === value) { return false; }" +
+            "input.value = value;" +
+            "var $ = window.jQuery;" +
+            "if ($ && $.fn.dataTable && $.fn.dataTable.isDataTable('#DataTables_Table_0')) {" +
+            "  $('#DataTables_Table_0').DataTable().search(value).draw();" +
+            "} else {" +
+            "  input.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  input.dispatchEvent(new KeyboardEvent('keyup', {bubbles: true}));" +
+            "}" +
+            "return true;";
+
+    /**
+     * Collects the header/value pairs of every row under div.container as [table index, header, value] triples.
+     * Like the per-element extraction, a cell's strong text is preferred over its plain text.
+     */
+    private static final String EXTRACT_TRADING_CONDITIONS_SCRIPT =
+            "function isVisible(el) { return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+            "function text(cell) {" +
+            "  if (!cell) { return ''; }" +
+            "  var strong = cell.getElementsByTagName('strong')[0];" +
+            "  var el = strong ? strong : cell;" +
+            "  return isVisible(el) ? el.innerText.replace(/\\s+/g, ' ').trim() : '';" +
+            "}" +
+            "var rows = document.evaluate(\"//div[@class='container']//tr\", document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "var tables = [];" +
+            "var result = [];" +
+            "for (var i = 0; i < rows.snapshotLength; i++) {" +
+            "  var row = rows.snapshotItem(i);" +
+            "  var table = row.closest('table');" +
+            "  var index = tables.indexOf(table);" +
+            "  if (index < 0) { index = tables.length; tables.push(table); }" +
+            "  var cells = row.getElementsByTagName('td');" +
+            "  var header = text(cells[0]);" +
+            "  var value = text(cells[1]);" +
+            "  if (header && value) { result.push([index, header, value]); }" +
+            "}" +
+            "return result;";
+
     private CommonPages() {
     }
 
@@ -30,11 +229,7 @@ public class CommonPages {
      * @return The WebElement that became clickable.
      */
     public static WebElement waitUntilElementIsClickable(WebDriver driver, By locator, int timeoutInSeconds) {
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeoutInSeconds))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(NoSuchElementException.class);
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        return AdaptiveWait.until(driver, "elementClickable", Duration.ofSeconds(timeoutInSeconds), ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
@@ -46,23 +241,7 @@ public class CommonPages {
      * @return The WebElement that became visible.
      */
     public static WebElement waitUntilElementIsVisible(WebDriver driver, By locator, int timeoutInSeconds) {
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(timeoutInSeconds))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(NoSuchElementException.class);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-    }
-
-    /**
-     * Waits until the elements located by the given locator are clickable within the specified timeout.
-     *
-     * @param driver            The WebDriver instance.
-     * @param locator           The locator used to find the elements.
-     * @return A list of WebElements that became clickable.
-     */
-    private static List<WebElement> waitUntilElementsAreClickable(WebDriver driver, By locator) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_IN_SECONDS));
-        return wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+        return AdaptiveWait.until(driver, "elementVisible", Duration.ofSeconds(timeoutInSeconds), ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
@@ -92,8 +271,7 @@ public class CommonPages {
                     element
             );
 
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_IN_SECONDS));
-            wait.until(ExpectedConditions.elementToBeClickable(element));
+            AdaptiveWait.until(driver, "elementClickable", Duration.ofSeconds(TIMEOUT_IN_SECONDS), ExpectedConditions.elementToBeClickable(element));
 
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
         } catch (Exception e) {
@@ -104,15 +282,22 @@ public class CommonPages {
 
 
     /**
-     * Handles the cookies popup on a web page.
+     * Handles the cookies popup on a web page. The popup is only waited for while the page loads, see
+     * {@link ConsentManager#isBannerPresent}, and the accepted consent is captured for later sessions.
      *
      * @param driver The WebDriver instance used to interact with the web page.
      */
     public static void handleCookiesPopup(WebDriver driver) {
+        if (!ConsentManager.isBannerPresent(driver, TIMEOUT_IN_SECONDS)) {
+            System.out.println("Cookies popup did not appear");
+            System.out.println("---------------------------------------------------");
+            return;
+        }
         try {
             WebElement cookiesPopup = waitUntilElementIsVisible(driver, By.xpath(".//*[contains(@class,'acceptDefaultCookieFirstVisit')]"), TIMEOUT_IN_SECONDS);
             clickElement(driver, cookiesPopup);
             System.out.println("Accepted cookies popup");
+            ConsentManager.capture(driver);
         } catch (TimeoutException e) {
             System.out.println("Cookies popup did not appear");
         }
@@ -128,7 +313,7 @@ public class CommonPages {
         WebElement tradingLink = waitUntilElementIsClickable(driver, By.xpath(".//*[@class='main_nav_trading']"), TIMEOUT_IN_SECONDS);
         System.out.println("Trading link found and clickable");
         clickElement(driver, tradingLink);
-        waitUntilPageLoadComplete(driver);
+        Readiness.await(driver, "tradingPage", Readiness.urlMatches("trading"), Readiness.domReady());
         System.out.println("---------------------------------------------------");
     }
 
@@ -156,7 +341,7 @@ public class CommonPages {
     public static void clickTabAndVerify(WebDriver driver, String tabName) {
         WebElement tabLink = waitUntilElementIsClickable(driver, By.xpath(".//li[contains(@class,'" + tabName + "')]/a"), TIMEOUT_IN_SECONDS);
         System.out.println(tabName + " link found and clickable");
-        waitUntilPageLoadComplete(driver);
+        Readiness.await(driver, "domReady", Readiness.domReady());
         String expectedUrl = tabLink.getAttribute("href");
         String expectedTitle = tabName.substring(0, 1).toUpperCase() + tabName.substring(1).replace("-", " ");
         clickElement(driver, tabLink);
@@ -165,7 +350,8 @@ public class CommonPages {
     }
 
     /**
-     * Applies a filter on a web page based on the specified country.
+     * Applies a filter on a web page based on the specified country,
+     * and waits until the filter is active and the table has been redrawn.
      *
      * @param driver The WebDriver instance.
      * @param country The country to filter for.
@@ -173,15 +359,14 @@ public class CommonPages {
     public static void applyFilter(WebDriver driver, String country) {
         WebElement norwayFilter = waitUntilElementIsVisible(driver, By.xpath(".//*[@type='button'][@data-value='" + country + "']"), TIMEOUT_IN_SECONDS);
         System.out.println("Norway filter found and clickable");
+        // Clicking before the table is initialized would be overridden by its first draw
+        Readiness.await(driver, "tableLoaded", Readiness.textMatches("#DataTables_Table_0_info", "\\d"));
+        String previousInfo = armTableRedraw(driver);
         clickElement(driver, norwayFilter);
-        waitUntilPageLoadComplete(driver);
-        By activeNorwayFilterLocator = By.xpath(".//*[@type='button'][contains(@class,'active')][@data-value='" + country + "']");
-        WebElement activeNorwayFilter = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_IN_SECONDS))
-                .until(ExpectedConditions.visibilityOfElementLocated(activeNorwayFilterLocator));
-        if (activeNorwayFilter.isDisplayed()) {
-            System.out.println("Norway filteris now active");
-        } else
-            System.out.println("Norway filterdid not activate successfully");
+        Readiness.await(driver, "activeFilter",
+                Readiness.visible("[type=button][data-value='" + country + "'].active"),
+                Readiness.tableRedrawn(previousInfo));
+        System.out.println("Norway filteris now active");
 
         System.out.println("--------------------------------------------------");
     }
@@ -195,35 +380,37 @@ public class CommonPages {
     public static void searchForStockData(WebDriver driver, String stockName) {
         WebElement searchField = waitUntilElementIsVisible(driver, By.xpath(".//*[@id='DataTables_Table_0_filter']//*[@type='search']"), TIMEOUT_IN_SECONDS);
         System.out.println("Search field found and clickable");
+        String previousInfo = armTableRedraw(driver);
         searchField.sendKeys(stockName);
         searchField.sendKeys(Keys.ENTER);
-        waitUntilPageLoadComplete(driver);
+        Readiness.await(driver, "searchResults", Readiness.tableRedrawn(previousInfo));
         System.out.println("---------------------------------------------------");
     }
 
     /**
-     * Expands all tabs on a mobile device.
+     * Narrows the stocks table to the rows matching the given text through its search box, in a single call,
+     * and waits for the table to be redrawn.
      *
-     * @param driver The WebDriver instance representing the browser session.
+     * @param driver The WebDriver instance used to interact with the web page.
+     * @param text   The text to search for, or an empty string to clear the search.
      */
-    public static void expandAllTabsOnMobile(WebDriver driver) {
-        WebElement rowCell = driver.findElement(By.xpath("//*[@id='DataTables_Table_0']/tbody/tr/td"));
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        String beforeContent = (String) js.executeScript(
-                "var element = arguments[0];" +
-                        "var style = window.getComputedStyle(element, '::before');" +
-                        "return style.getPropertyValue('content');",
-                rowCell
-        );
-        if (beforeContent != null && !beforeContent.isEmpty() && !beforeContent.equals("none")) {
-            List<WebElement> expandTabs = waitUntilElementsAreClickable(driver, By.xpath(".//*[@data-xm-qa-name='symbolWithDescription']"));
-            for (WebElement expandTab : expandTabs) {
-                clickElement(driver, expandTab);
-                waitUntilPageLoadComplete(driver);
-            }
+    public static void filterTable(WebDriver driver, String text) {
+        String previousInfo = armTableRedraw(driver);
+        if (Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(SEARCH_TABLE_SCRIPT, text))) {
+            waitForTableRedraw(driver, previousInfo);
         }
     }
 
+    /**
+     * Returns whether the stocks table shows its responsive layout, with columns collapsed into child rows.
+     *
+     * @param driver The WebDriver instance representing the browser session.
+     * @return True if the row controls are shown, false otherwise.
+     */
+    public static boolean isResponsiveLayout(WebDriver driver) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(RESPONSIVE_LAYOUT_SCRIPT));
+    }
+
     /**
      * Extracts the table headers from a web page table.
      *
@@ -243,6 +430,11 @@ public class CommonPages {
 
     /**
      * Retrieves all the entries from a web page table, including data from multiple pages.
+     * With {@link EntrySource#DATATABLES_API} every filtered row is shown on a single page and read in one pass,
+     * and with {@link EntrySource#NETWORK_FEED} the rows are read from the captured data feed.
+     * When the {@link SnapshotCache} is enabled, a fresh snapshot of the same table is returned instead of scraping it.
+     * The snapshot is keyed by the headers, the number of entries and the rows of the first page, so changes to
+     * rows on later pages are only picked up when the snapshot expires.
      *
      * @param driver The WebDriver instance.
      * @return A list of maps representing the table data, where each map contains the row data.
@@ -251,46 +443,183 @@ public class CommonPages {
         List<Map<String, String>> allEntries = new ArrayList<>();
         List<String> headers = extractTableHeaders(driver);
 
-        do {
-            allEntries.addAll(extractTableData(driver, headers));
-        } while (navigateToNextPage(driver));
+        String snapshotKey = null;
+        if (SnapshotCache.isEnabled()) {
+            List<?> fingerprint = (List<?>) ((JavascriptExecutor) driver).executeScript(TABLE_FINGERPRINT_SCRIPT);
+            String info = String.valueOf(fingerprint.get(3));
+            int liveTotal = totalEntries(fingerprint.get(2), info);
+            // Only the part after "of" identifies the table; the page position before it changes while paging.
+            // The rows of the page already drawn catch value changes that keep the number of entries.
+            String content = String.join("|", headers) + "|" + info.substring(Math.max(0, info.indexOf(" of ")))
+                    + "|" + fingerprint.get(4);
+            snapshotKey = SnapshotCache.key(String.valueOf(fingerprint.get(0)), String.valueOf(fingerprint.get(1)), SnapshotCache.hash(content));
+            List<Map<String, String>> snapshot = SnapshotCache.shared().get(snapshotKey, liveTotal);
+            if (snapshot != null) {
+                RunContext.current().setEntriesSize(snapshot.size());
+                System.out.println("allEntries: " + snapshot.size() + " (from snapshot)");
+                System.out.println("---------------------------------------------------");
+                return new ArrayList<>(snapshot);
+            }
+        }
 
-        Config.entriesSize = allEntries.size();
+        List<Map<String, String>> feedEntries = Config.entrySource == EntrySource.NETWORK_FEED
+                ? extractEntriesFromFeed(driver, headers)
+                : null;
+        Object previousLength = Config.entrySource == EntrySource.DATATABLES_API
+                ? ((JavascriptExecutor) driver).executeScript(SHOW_ALL_ROWS_SCRIPT)
+                : null;
+        if (feedEntries != null) {
+            System.out.println("Read all entries from the network feed");
+            allEntries.addAll(feedEntries);
+        } else if (previousLength != null) {
+            System.out.println("Showing all entries through the DataTables API");
+            try {
+                allEntries.addAll(CommandBudget.check("extractTableData", () -> extractTableData(driver, headers)));
+            } finally {
+                // Restore the page length even when the extraction fails, so later steps and pooled sessions see a paged table
+                ((JavascriptExecutor) driver).executeScript(RESTORE_PAGE_LENGTH_SCRIPT, previousLength);
+            }
+        } else {
+            if (Config.entrySource == EntrySource.DATATABLES_API) {
+                System.out.println("DataTables API not available, paging through the table");
+            } else if (Config.entrySource == EntrySource.NETWORK_FEED) {
+                System.out.println("Network feed not usable, paging through the table");
+            }
+            do {
+                allEntries.addAll(CommandBudget.check("extractTableData", () -> extractTableData(driver, headers)));
+            } while (navigateToNextPage(driver));
+        }
+
+        if (snapshotKey != null) {
+            SnapshotCache.shared().put(snapshotKey, allEntries);
+        }
+        RunContext.current().setEntriesSize(allEntries.size());
         System.out.println("allEntries: " + allEntries.size());
         System.out.println("---------------------------------------------------");
         return allEntries;
     }
 
     /**
-     * Navigates to the next page.
+     * Reads all entries of the table from the data feed captured by the {@link FeedCapture} of the run.
+     * The visible page is read from the DOM to learn how feed fields map onto columns, and the result is only
+     * used when it reproduces those rows and the total number of entries reported by the table.
+     *
+     * @param driver  The WebDriver instance.
+     * @param headers A list of strings representing the table headers.
+     * @return A list of maps representing the table data, or null if the feed is missing or does not match the table.
+     */
+    public static List<Map<String, String>> extractEntriesFromFeed(WebDriver driver, List<String> headers) {
+        FeedCapture capture = RunContext.current().getFeedCapture();
+        String body = capture == null ? null : capture.latestBody();
+        if (body == null) {
+            System.out.println("No table feed was captured");
+            return null;
+        }
+
+        List<?> fingerprint = (List<?>) ((JavascriptExecutor) driver).executeScript(TABLE_FINGERPRINT_SCRIPT);
+        int total = totalEntries(fingerprint.get(2), String.valueOf(fingerprint.get(3)));
+        List<Map<String, String>> sample = extractTableDataByScript(driver, headers);
+        List<Map<String, String>> entries;
+        try {
+            entries = TableFeed.parse(body).toEntries(sample, String.valueOf(fingerprint.get(0)));
+        } catch (RuntimeException e) {
+            System.out.println("The table feed could not be parsed: " + e.getMessage());
+            return null;
+        }
+        if (entries == null || entries.size() != total || !entries.containsAll(sample)) {
+            System.out.println("The table feed does not match the table: " + (entries == null ? "unmapped columns" : entries.size() + " rows, expected " + total));
+            return null;
+        }
+        return entries;
+    }
+
+    /**
+     * Navigates to the next page and waits for the table to be redrawn.
      *
      * @param driver The WebDriver instance.
-     * @return True if successfully navigated to the next page, false otherwise.
+     * @return True if successfully navigated to the next page, false if the table is on its last page.
+     * @throws TimeoutException if the table was not redrawn in time, so a slow page is not mistaken for the last one
      */
     public static boolean navigateToNextPage(WebDriver driver) {
+        WebElement nextButton;
         try {
-            WebElement nextButton = driver.findElement(By.xpath(".//*[@id='DataTables_Table_0_wrapper']//*[@class='paginate_button next']"));
-            if (nextButton.getAttribute("class").contains("disabled")) {
-                return false;
-            }
-            clickElement(driver, nextButton);
-            Thread.sleep(2000);
-            return true;
-        } catch (Exception e) {
+            nextButton = driver.findElement(By.xpath(".//*[@id='DataTables_Table_0_wrapper']//*[@class='paginate_button next']"));
+        } catch (NoSuchElementException e) {
+            return false;
+        }
+        if (nextButton.getAttribute("class").contains("disabled")) {
             return false;
         }
+        String previousInfo = armTableRedraw(driver);
+        clickElement(driver, nextButton);
+        waitForTableRedraw(driver, previousInfo);
+        return true;
+    }
+
+    /**
+     * Arms the redraw detection for the stocks table. Must be called before the action that triggers the redraw.
+     *
+     * @param driver The WebDriver instance.
+     * @return The info text of the table before the redraw, to be passed to {@link #waitForTableRedraw}.
+     */
+    public static String armTableRedraw(WebDriver driver) {
+        Object info = ((JavascriptExecutor) driver).executeScript(ARM_TABLE_REDRAW_SCRIPT);
+        return info == null ? "" : info.toString();
     }
 
     /**
-     * Extracts the data of a table on a web page and returns it as a list of maps.
+     * Waits until the stocks table has been redrawn after {@link #armTableRedraw} was called.
+     * Returns as soon as the redraw is detected, see {@link AdaptiveWait}; the timeout is the only upper bound.
+     *
+     * @param driver       The WebDriver instance.
+     * @param previousInfo The info text returned by {@link #armTableRedraw}.
+     */
+    public static void waitForTableRedraw(WebDriver driver, String previousInfo) {
+        AdaptiveWait.until(driver, "tableRedraw", Duration.ofSeconds(TIMEOUT_IN_SECONDS),
+                webDriver -> Boolean.TRUE.equals(((JavascriptExecutor) webDriver).executeScript(TABLE_REDRAWN_SCRIPT, previousInfo)));
+    }
+
+    /**
+     * Extracts the data of a table on a web page and returns it as a list of maps,
+     * using the strategy selected by {@link Config#tableExtraction}.
      *
      * @param driver  The WebDriver instance.
      * @param headers A list of strings representing the table headers.
      * @return A list of maps representing the table data, where each map contains the row data.
      */
     public static List<Map<String, String>> extractTableData(WebDriver driver, List<String> headers) {
-        // Expand all tabs if table rows are wrapped due to limited width space
-        expandAllTabsOnMobile(driver);
+        return extractTableData(driver, headers, Config.tableExtraction);
+    }
+
+    /**
+     * Extracts the data of a table on a web page with the given strategy and returns it as a list of maps.
+     *
+     * @param driver  The WebDriver instance.
+     * @param headers A list of strings representing the table headers.
+     * @param mode    The extraction strategy to use.
+     * @return A list of maps representing the table data, where each map contains the row data.
+     */
+    public static List<Map<String, String>> extractTableData(WebDriver driver, List<String> headers, TableExtraction mode) {
+        if (mode == TableExtraction.SCRIPT) {
+            return extractTableDataByScript(driver, headers);
+        }
+        return extractTableDataByElement(driver, headers);
+    }
+
+    /**
+     * Extracts the data of a table by querying every row and cell through WebDriver.
+     * At the responsive layout the table is read with {@link #extractTableDataByScript} instead.
+     *
+     * @param driver  The WebDriver instance.
+     * @param headers A list of strings representing the table headers.
+     * @return A list of maps representing the table data, where each map contains the row data.
+     */
+    public static List<Map<String, String>> extractTableDataByElement(WebDriver driver, List<String> headers) {
+        // Rows wrapped due to limited width space would need a round trip per row and per hidden column,
+        // so the hidden columns are read in a single script call instead
+        if (isResponsiveLayout(driver)) {
+            return extractTableDataByScript(driver, headers);
+        }
         List<Map<String, String>> tableData = new ArrayList<>();
         List<WebElement> rows = driver.findElements(By.xpath(".//*[@id='DataTables_Table_0']/tbody/tr"));
 
@@ -303,6 +632,33 @@ public class CommonPages {
         return tableData;
     }
 
+    /**
+     * Extracts the data of a table in a single script call, including the hidden responsive columns
+     * and the "Read More" links, and returns it in the same shape as {@link #extractTableDataByElement}.
+     *
+     * @param driver  The WebDriver instance.
+     * @param headers A list of strings representing the table headers.
+     * @return A list of maps representing the table data, where each map contains the row data.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, String>> extractTableDataByScript(WebDriver driver, List<String> headers) {
+        List<Map<String, String>> tableData = new ArrayList<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_TABLE_SCRIPT, headers);
+        if (!(result instanceof List)) {
+            return tableData;
+        }
+
+        for (Object row : (List<Object>) result) {
+            Map<String, String> rowData = new LinkedHashMap<>();
+            for (Object pair : (List<Object>) row) {
+                List<Object> entry = (List<Object>) pair;
+                rowData.put(String.valueOf(entry.get(0)), String.valueOf(entry.get(1)));
+            }
+            tableData.add(rowData);
+        }
+        return tableData;
+    }
+
     /**
      * Extracts the data of a row in a web page table and returns it as a map.
      *
@@ -357,17 +713,97 @@ public class CommonPages {
 
     /**
      * Finds the stock data entry for the given stock symbol in a web page table and returns it as a map.
+     * With {@link SymbolLookup#STREAM} the table is read page by page and paging stops at the first match,
+     * and with {@link SymbolLookup#SEARCH} the table is narrowed with its search box before it is read.
      *
      * @param driver       The WebDriver instance.
      * @param stockSymbol  The stock symbol to search for in the table.
      * @return A map representing the stock data entry, with keys representing the table headers and values representing the cell values.
      */
     public static Map<String, String> findStockData(WebDriver driver, String stockSymbol) {
-        List<Map<String, String>> allEntries = getAllEntries(driver);
-        for (Map<String, String> entry : allEntries) {
+        Map<String, String> entry;
+        switch (Config.symbolLookup) {
+            case SEARCH:
+                entry = findStockDataBySearch(driver, stockSymbol);
+                break;
+            case STREAM:
+                entry = findStockDataByStream(driver, stockSymbol);
+                break;
+            default:
+                entry = findEntry(getAllEntries(driver), stockSymbol);
+        }
+        if (entry != null) {
+            System.out.println("entry: " + entry);
+            System.out.println("---------------------------------------------------");
+        }
+        return entry;
+    }
+
+    /**
+     * Finds the stock data entry by reading the table page by page until the symbol is found.
+     *
+     * @param driver      The WebDriver instance.
+     * @param stockSymbol The stock symbol to search for in the table.
+     * @return The matching entry, or null if the table does not contain the symbol.
+     */
+    public static Map<String, String> findStockDataByStream(WebDriver driver, String stockSymbol) {
+        TableRowIterator rows = new TableRowIterator(driver, extractTableHeaders(driver));
+        Map<String, String> entry = stream(rows).filter(row -> row.values().contains(stockSymbol)).findFirst().orElse(null);
+        System.out.println("Stream lookup read " + rows.getRowsRead() + " rows");
+        return entry;
+    }
+
+    /**
+     * Finds the stock data entry by narrowing the table with its search box and reading only the matching rows.
+     * The match is verified against the info text; when all matching rows do not fit on one page or none of them
+     * contains the symbol, the search is cleared and the table is read page by page instead. The search box is cleared
+     * again before returning.
+     *
+     * @param driver      The WebDriver instance.
+     * @param stockSymbol The stock symbol to search for in the table.
+     * @return The matching entry, or null if the table does not contain the symbol.
+     */
+    public static Map<String, String> findStockDataBySearch(WebDriver driver, String stockSymbol) {
+        List<String> headers = extractTableHeaders(driver);
+        filterTable(driver, stockSymbol);
+        List<Map<String, String>> rows = CommandBudget.check("extractTableData", () -> extractTableData(driver, headers));
+        int totalEntries = readTotalEntries(driver);
+        Map<String, String> entry = findEntry(rows, stockSymbol);
+        filterTable(driver, "");
+
+        if (entry != null && totalEntries == rows.size()) {
+            System.out.println("Search narrowed the table to " + totalEntries + " entries");
+            return entry;
+        }
+        System.out.println("Search returned " + totalEntries + " entries (" + rows.size() + " on the page), reading the whole table instead");
+        return findStockDataByStream(driver, stockSymbol);
+    }
+
+    /**
+     * Returns the rows of the table as a lazy stream, starting at the current page. Pages are extracted
+     * and paginated to only as far as the stream is consumed.
+     *
+     * @param driver The WebDriver instance.
+     * @return A sequential stream of the row data.
+     */
+    public static Stream<Map<String, String>> streamEntries(WebDriver driver) {
+        return stream(new TableRowIterator(driver, extractTableHeaders(driver)));
+    }
+
+    private static Stream<Map<String, String>> stream(TableRowIterator rows) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Finds the first entry containing the given stock symbol among already extracted table entries.
+     *
+     * @param entries     The extracted table entries.
+     * @param stockSymbol The stock symbol to search for.
+     * @return The matching entry, or null if no entry contains the symbol.
+     */
+    public static Map<String, String> findEntry(List<Map<String, String>> entries, String stockSymbol) {
+        for (Map<String, String> entry : entries) {
             if (entry.values().contains(stockSymbol)) {
-                System.out.println("entry: " + entry);
-                System.out.println("---------------------------------------------------");
                 return entry;
             }
         }
@@ -375,14 +811,14 @@ public class CommonPages {
     }
 
     /**
-     * Navigates to the "Read More" link associated with the given stock symbol.
+     * Navigates to the "Read More" link associated with the given stock symbol, and waits until its trading conditions are shown.
      *
      * @param driver       The WebDriver instance.
      * @param stockSymbol  The stock symbol for which to navigate to the "Read More" link.
      */
     public static void navigateToReadMore(WebDriver driver, String stockSymbol) {
 
-        Map<String, String> stockData = Config.entries;
+        Map<String, String> stockData = RunContext.current().getEntries();
         // Find the stock data entry for the given stock symbol
         if (stockData != null) {
             System.out.println("Stock data found for symbol: " + stockSymbol);
@@ -391,7 +827,9 @@ public class CommonPages {
             if (readMoreHref != null && !readMoreHref.isEmpty()) {
                 System.out.println("Navigating to ReadmoreHref: " + readMoreHref);
                 driver.navigate().to(readMoreHref);
-                waitUntilPageLoadComplete(driver);
+                Readiness.await(driver, "readMorePage",
+                        Readiness.urlMatches(Readiness.quote(URI.create(readMoreHref).getPath())),
+                        Readiness.visible("div[class='container'] tr"));
                 System.out.println("Navigation to ReadmoreHref completed.");
             } else {
                 System.out.println("ReadmoreHref is empty for stock symbol: " + stockSymbol);
@@ -402,40 +840,107 @@ public class CommonPages {
     }
 
     /**
-     * Retrieves the count of entries from a web page table and compares it with {@link Config#entriesSize}.
+     * Reads the trading conditions of the given stock symbol from the HTML of its "Read More" page, without the browser.
+     * See {@link HttpTradingConditions}.
+     *
+     * @param stockSymbol The stock symbol whose trading conditions to read.
+     * @return A Map of header names to values, or null if the page could not be fetched or its tables are rendered
+     * client-side, in which case the page has to be read in the browser.
+     */
+    public static Map<String, String> fetchTradingConditions(String stockSymbol) {
+        Map<String, String> stockData = RunContext.current().getEntries();
+        String readMoreHref = stockData != null ? stockData.get("ReadmoreHref") : null;
+        if (readMoreHref == null || readMoreHref.isEmpty()) {
+            System.out.println("ReadmoreHref is empty for stock symbol: " + stockSymbol);
+            return null;
+        }
+
+        List<Map<String, String>> tables = HttpTradingConditions.fetch(readMoreHref);
+        if (tables.isEmpty()) {
+            System.out.println("No trading conditions in the HTML of " + readMoreHref + ", reading them in the browser.");
+            return null;
+        }
+        Map<String, String> data = new HashMap<>();
+        for (Map<String, String> table : tables) {
+            data.putAll(table);
+        }
+        System.out.println("---------------------------------------------------");
+        return data;
+    }
+
+    /**
+     * Retrieves the count of entries from a web page table and compares it with {@link RunContext#getEntriesSize()}
+     * when the table was fully scraped. Otherwise the count of the info text is cross-checked with the DataTables API.
      *
      * @param driver The WebDriver instance to use for interacting with the web page.
      */
     public static void entriesCount(WebDriver driver) {
-        WebElement entriesCountElement = driver.findElement(By.xpath(".//*[@id='DataTables_Table_0_info']"));
-        String entriesCountText = entriesCountElement.getText();
+        List<?> totals = (List<?>) ((JavascriptExecutor) driver).executeScript(TOTAL_ENTRIES_SCRIPT);
+        int totalEntries = parseTotalEntries(String.valueOf(totals.get(1)));
+        int entriesSize = RunContext.current().getEntriesSize();
 
-        // Define the regex pattern to match the total number of entries
-        // e.g. Showing 1 to 10 of 23 entries (filtered from 1,311 total entries)
-        String regex = "Showing \\d+ to \\d+ of (\\d+) entries";
+        if (entriesSize >= 0) {
+            // Compare the total number of entries with the number of scraped entries
+            Assert.assertEquals(totalEntries, entriesSize, "Total entries found in table do not match the size of all entries count");
+        } else if (totals.get(0) != null) {
+            Assert.assertEquals(totalEntries, ((Number) totals.get(0)).intValue(), "Total entries of the info text do not match the DataTables API count");
+        }
+        System.out.println("Total entries: " + totalEntries);
+        System.out.println("---------------------------------------------------");
+    }
 
-        // Compile the regex pattern
-        Pattern pattern = Pattern.compile(regex);
+    /**
+     * Reads the total number of entries of the stocks table, from the DataTables API when available
+     * and from the table info text otherwise.
+     *
+     * @param driver The WebDriver instance to use for interacting with the web page.
+     * @return The total number of filtered entries.
+     */
+    public static int readTotalEntries(WebDriver driver) {
+        List<?> totals = (List<?>) ((JavascriptExecutor) driver).executeScript(TOTAL_ENTRIES_SCRIPT);
+        return totalEntries(totals.get(0), String.valueOf(totals.get(1)));
+    }
 
-        // Match the pattern against the input text
-        Matcher matcher = pattern.matcher(entriesCountText);
+    /**
+     * Returns the total number of entries reported by the DataTables API, or parsed from the info text when the API is unavailable.
+     *
+     * @param apiTotal The total returned by the API, or null.
+     * @param infoText The info text of the table.
+     * @return The total number of filtered entries.
+     */
+    private static int totalEntries(Object apiTotal, String infoText) {
+        return apiTotal != null ? ((Number) apiTotal).intValue() : parseTotalEntries(infoText);
+    }
 
-        // Check if a match is found and extract the number
+    /**
+     * Extracts the total number of entries from the table info text.
+     *
+     * @param entriesCountText The info text, e.g. Showing 1 to 10 of 23 entries.
+     * @return The total number of entries.
+     */
+    private static int parseTotalEntries(String entriesCountText) {
+        Matcher matcher = TOTAL_ENTRIES_PATTERN.matcher(entriesCountText);
         Assert.assertTrue(matcher.find(), "No match found.");
-        int totalEntries = Integer.parseInt(matcher.group(1));
-
-        // Compare the total number of entries with the expected number
-        Assert.assertEquals(totalEntries, Config.entriesSize, "Total entries found in table do not match the size of all entries count");
-        System.out.println("---------------------------------------------------");
+        return Integer.parseInt(matcher.group(1).replace(",", ""));
     }
 
     /**
      * Extracts the trading conditions data from a web page and returns it as a Map.
+     * With {@link TableExtraction#SCRIPT} the page is read in a single call through {@link #extractTradingConditionTables}.
      *
      * @param driver The WebDriver instance to use for interacting with the web page.
      * @return A Map<String, String> representing the trading conditions data, where the keys are the header names and the values are the corresponding values.
      */
     public static Map<String, String> extractTradingConditions(WebDriver driver) {
+        if (Config.tableExtraction == TableExtraction.SCRIPT) {
+            Map<String, String> data = new HashMap<>();
+            for (Map<String, String> table : extractTradingConditionTables(driver)) {
+                data.putAll(table);
+            }
+            System.out.println("---------------------------------------------------");
+            return data;
+        }
+
         List<WebElement> tradingRows = driver.findElements(By.xpath("//div[@class='container']//tr"));
         Map<String, String> data = new HashMap<>();
 
@@ -473,32 +978,92 @@ public class CommonPages {
     }
 
     /**
-     * Compares the data from the tradingConditions map with the entries map and prints a message for matching values.
+     * Extracts the trading conditions of a web page in a single script call, keeping the rows of each table apart.
+     * A cell's strong text is used when it has one, otherwise its plain text, and rows missing a header
+     * or a value are skipped, as in {@link #extractTradingConditions}.
      *
-     * @param tradingConditions A Map representing the trading conditions data, where the keys are the header names and the values are the corresponding values.
+     * @param driver The WebDriver instance to use for interacting with the web page.
+     * @return One map of header to value per table under div.container, in page order.
      */
-    public static void compareData(Map<String, String> tradingConditions) {
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, String>> extractTradingConditionTables(WebDriver driver) {
+        List<Map<String, String>> tables = new ArrayList<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(EXTRACT_TRADING_CONDITIONS_SCRIPT);
+        if (!(result instanceof List)) {
+            return tables;
+        }
 
-        for (Map.Entry<String, String> orklaEntry : Config.entries.entrySet()) {
-            for (Map.Entry<String, String> tradingEntry : tradingConditions.entrySet()) {
-                if (orklaEntry.getValue().equals(tradingEntry.getValue())) {
-                    System.out.println("The Column '" + orklaEntry.getKey() + "' for '" + Config.symbolName + "' Data matches the Value of '" + tradingEntry.getKey() + "' in the Trading Conditions table. The common value is '" + orklaEntry.getValue() + "'.");
-                    System.out.println("----------------------------------------------------------------------------------------");
-                }
+        for (Object item : (List<Object>) result) {
+            List<Object> row = (List<Object>) item;
+            int index = ((Number) row.get(0)).intValue();
+            while (tables.size() <= index) {
+                tables.add(new LinkedHashMap<>());
             }
+            tables.get(index).put(String.valueOf(row.get(1)), String.valueOf(row.get(2)));
+        }
+        return tables;
+    }
+
+    /**
+     * Compares the data from the tradingConditions map with the entry of the current run and prints the result.
+     * Values are compared in normalized form, see {@link DataComparator}.
+     *
+     * @param tradingConditions A Map representing the trading conditions data, where the keys are the header names and the values are the corresponding values.
+     * @return The report of matching, mismatching and missing columns.
+     */
+    public static ComparisonReport compareData(Map<String, String> tradingConditions) {
+        return compareData(Config.symbolName, RunContext.current().getEntries(), tradingConditions);
+    }
+
+    /**
+     * Compares the data from the tradingConditions map with the given table entry and prints the result.
+     *
+     * @param symbolName        The symbol the entry belongs to.
+     * @param entry             The table entry of the symbol.
+     * @param tradingConditions A Map representing the trading conditions data of the symbol.
+     * @return The report of matching, mismatching and missing columns.
+     */
+    public static ComparisonReport compareData(String symbolName, Map<String, String> entry, Map<String, String> tradingConditions) {
+        ComparisonReport report = DataComparator.compare(symbolName, entry, tradingConditions);
+
+        for (ComparisonReport.Match match : report.getMatches()) {
+            System.out.println("The Column '" + match.getColumn() + "' for '" + symbolName + "' Data matches the Value of '" + String.join("', '", match.getConditionKeys()) + "' in the Trading Conditions table. The common value is '" + match.getValue() + "'.");
+        }
+        for (ComparisonReport.Mismatch mismatch : report.getMismatches()) {
+            System.out.println("The Column '" + mismatch.getColumn() + "' for '" + symbolName + "' Data is '" + mismatch.getTableValue() + "' but '" + mismatch.getConditionKey() + "' in the Trading Conditions table is '" + mismatch.getConditionValue() + "'.");
+        }
+        if (!report.getMissing().isEmpty()) {
+            System.out.println("Columns not found in the Trading Conditions table: " + report.getMissing());
         }
+        System.out.println(report);
+        System.out.println("----------------------------------------------------------------------------------------");
+        return report;
     }
 
     /**
-     * Waits until the page is completely loaded.
+     * Opens the given URL and records its load time when {@link PageLoadTimes#isEnabled()}.
+     *
+     * @param driver The WebDriver instance.
+     * @param url    The URL to open.
+     */
+    public static void openPage(WebDriver driver, String url) {
+        driver.get(url);
+        if (PageLoadTimes.isEnabled()) {
+            PageLoadTimes.record(driver);
+        }
+    }
+
+    /**
+     * Waits until the page is completely loaded, and records its load time when {@link PageLoadTimes#isEnabled()}.
      *
      * @param driver The WebDriver instance.
      */
     public static void waitUntilPageLoadComplete(WebDriver driver) {
-        new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(30))
-                .pollingEvery(Duration.ofMillis(500))
-                .until(webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+        AdaptiveWait.until(driver, "pageLoad", Duration.ofSeconds(30),
+                webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"));
+        if (PageLoadTimes.isEnabled()) {
+            PageLoadTimes.record(driver);
+        }
     }
 
 
@@ -510,13 +1075,8 @@ public class CommonPages {
      * @param expectedTitle The expected title of the page.
      */
     private static void verifyPageLoaded(WebDriver driver, String expectedUrl, String expectedTitle) {
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(30))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(NoSuchElementException.class);
-
-        wait.until(ExpectedConditions.urlToBe(expectedUrl));
-        wait.until(ExpectedConditions.titleContains(expectedTitle));
+        Readiness.await(driver, "tabPage",
+                Readiness.urlMatches("^" + Readiness.quote(expectedUrl) + "$"), Readiness.titleContains(expectedTitle));
 
         String actualUrl = driver.getCurrentUrl();
         String actualTitle = driver.getTitle();
@@ -0,0 +1,225 @@
+package com.xm.interview.test.pages;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The HttpTradingConditions class reads the trading conditions of a stock without a browser: the "Read More" page
+ * is fetched over HTTP and the tables under div.container are parsed from its HTML, with the same rules as
+ * {@link CommonPages#extractTradingConditionTables}.
+ * <p>
+ * A single HTTP/2 client is shared, so connections to the site are reused across symbols, and responses are
+ * requested compressed. Pages whose tables are rendered client-side yield no rows, and the caller is expected
+ * to read them in the browser instead.
+ */
+public class HttpTradingConditions {
+    private static final Logger logger = Logger.getLogger(HttpTradingConditions.class.getName());
+    private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("HttpTimeoutSec", 10));
+    private static final String USER_AGENT = System.getProperty("HttpUserAgent",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36");
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    private static final Pattern IGNORED = Pattern.compile("(?is)<!--.*?-->|<(script|style|template)\\b.*?</\\1\\s*>");
+    private static final Pattern DIV_TAG = Pattern.compile("(?i)<(/?)div\\b([^>]*)>");
+    private static final Pattern CONTAINER_CLASS = Pattern.compile("(?i)\\bclass\\s*=\\s*(['\"])container\\1");
+    private static final Pattern TABLE = Pattern.compile("(?is)<table\\b[^>]*>(.*?)</table\\s*>");
+    private static final Pattern ROW = Pattern.compile("(?is)<tr\\b[^>]*>(.*?)(?=<tr\\b|</tr\\s*>|$)");
+    private static final Pattern CELL = Pattern.compile("(?is)<td\\b([^>]*)>(.*?)(?=<td\\b|<th\\b|</td\\s*>|$)");
+    private static final Pattern STRONG = Pattern.compile("(?is)<strong\\b([^>]*)>(.*?)</strong\\s*>");
+    private static final Pattern HIDDEN = Pattern.compile("(?i)(?:^|\\s)hidden(?:[\\s=]|$)|display\\s*:\\s*none");
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&(#[xX][0-9a-fA-F]+|#[0-9]+|[a-zA-Z]+);");
+    private static final Pattern CHARSET = Pattern.compile("(?i)charset=\"?([\\w.:-]+)");
+
+    private HttpTradingConditions() {
+    }
+
+    /**
+     * Fetches the given "Read More" page and parses its trading conditions.
+     *
+     * @param url The URL of the page.
+     * @return One map of header to value per table under div.container, in page order; empty if the request failed
+     * or the page holds no trading conditions in its HTML.
+     */
+    public static List<Map<String, String>> fetch(String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(TIMEOUT)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Encoding", "gzip, deflate")
+                .header("User-Agent", USER_AGENT)
+                .GET()
+                .build();
+        try {
+            HttpResponse<byte[]> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                logger.warning("Fetching " + url + " returned status " + response.statusCode());
+                return new ArrayList<>();
+            }
+            String html = new String(decode(response), charset(response));
+            System.out.println("Fetched " + url + " over " + response.version() + " (" + response.body().length + " bytes)");
+            return parse(html);
+        } catch (IOException e) {
+            logger.warning("Failed to fetch " + url + ": " + e.getMessage());
+            return new ArrayList<>();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parses the trading conditions of a "Read More" page. A cell's strong text is used when it has one, otherwise
+     * its plain text, rows missing a header or a value are skipped, and hidden cells are read as empty.
+     *
+     * @param html The HTML of the page.
+     * @return One map of header to value per table under div.container, in page order.
+     */
+    public static List<Map<String, String>> parse(String html) {
+        List<Map<String, String>> tables = new ArrayList<>();
+        String page = IGNORED.matcher(html).replaceAll(" ");
+
+        for (String container : containers(page)) {
+            Matcher table = TABLE.matcher(container);
+            while (table.find()) {
+                Matcher row = ROW.matcher(table.group(1));
+                if (!row.find()) {
+                    continue;
+                }
+                Map<String, String> data = new LinkedHashMap<>();
+                tables.add(data);
+                do {
+                    List<String> cells = new ArrayList<>();
+                    Matcher cell = CELL.matcher(row.group(1));
+                    while (cell.find() && cells.size() < 2) {
+                        cells.add(cellText(cell.group(1), cell.group(2)));
+                    }
+                    if (cells.size() == 2 && !cells.get(0).isEmpty() && !cells.get(1).isEmpty()) {
+                        data.put(cells.get(0), cells.get(1));
+                    }
+                } while (row.find());
+            }
+        }
+
+        // Drop trailing tables without trading conditions, as the browser extraction does
+        while (!tables.isEmpty() && tables.get(tables.size() - 1).isEmpty()) {
+            tables.remove(tables.size() - 1);
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the content of every div whose class is exactly container, skipping containers nested in another one.
+     *
+     * @param page The HTML of the page.
+     * @return The inner HTML of the containers, in page order.
+     */
+    private static List<String> containers(String page) {
+        List<String> containers = new ArrayList<>();
+        Matcher tag = DIV_TAG.matcher(page);
+        while (tag.find()) {
+            if (!tag.group(1).isEmpty() || !CONTAINER_CLASS.matcher(tag.group(2)).find()) {
+                continue;
+            }
+            int start = tag.end();
+            int end = page.length();
+            int depth = 1;
+            while (tag.find()) {
+                depth += tag.group(1).isEmpty() ? 1 : -1;
+                if (depth == 0) {
+                    end = tag.start();
+                    break;
+                }
+            }
+            containers.add(page.substring(start, end));
+        }
+        return containers;
+    }
+
+    private static String cellText(String attributes, String content) {
+        if (HIDDEN.matcher(attributes).find()) {
+            return "";
+        }
+        Matcher strong = STRONG.matcher(content);
+        if (strong.find()) {
+            if (HIDDEN.matcher(strong.group(1)).find()) {
+                return "";
+            }
+            content = strong.group(2);
+        }
+        String text = TAG.matcher(content).replaceAll(" ");
+        return decodeEntities(text).replaceAll("[\\s\\u00a0]+", " ").trim();
+    }
+
+    private static String decodeEntities(String text) {
+        Matcher entity = ENTITY.matcher(text);
+        StringBuilder decoded = new StringBuilder();
+        while (entity.find()) {
+            String name = entity.group(1);
+            String replacement;
+            if (name.startsWith("#")) {
+                boolean hex = name.startsWith("#x") || name.startsWith("#X");
+                try {
+                    replacement = new String(Character.toChars(Integer.parseInt(name.substring(hex ? 2 : 1), hex ? 16 : 10)));
+                } catch (IllegalArgumentException e) {
+                    // Out of range code points are kept as written rather than failing the read of the whole page
+                    replacement = entity.group();
+                }
+            } else {
+                switch (name) {
+                    case "amp": replacement = "&"; break;
+                    case "lt": replacement = "<"; break;
+                    case "gt": replacement = ">"; break;
+                    case "quot": replacement = "\""; break;
+                    case "apos": replacement = "'"; break;
+                    case "nbsp": replacement = " "; break;
+                    default: replacement = entity.group(); break;
+                }
+            }
+            entity.appendReplacement(decoded, Matcher.quoteReplacement(replacement));
+        }
+        entity.appendTail(decoded);
+        return decoded.toString();
+    }
+
+    private static byte[] decode(HttpResponse<byte[]> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase();
+        if (encoding.isEmpty() || encoding.equals("identity")) {
+            return response.body();
+        }
+        try (InputStream in = encoding.equals("gzip")
+                ? new GZIPInputStream(new ByteArrayInputStream(response.body()))
+                : new InflaterInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Charset charset(HttpResponse<byte[]> response) {
+        Matcher matcher = CHARSET.matcher(response.headers().firstValue("Content-Type").orElse(""));
+        try {
+            return matcher.find() ? Charset.forName(matcher.group(1)) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.standin.StandInServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The HttpTradingConditionsTest class verifies that the trading conditions are read from the HTML of a "Read More"
+ * page as the browser extraction reads them.
+ */
+public class HttpTradingConditionsTest {
+    private static StandInServer server;
+
+    @BeforeClass
+    public static void startServer() {
+        server = StandInServer.start(0, 0, 0);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void readsTheTablesOfAStandInPage() {
+        List<Map<String, String>> tables = HttpTradingConditions.fetch(server.baseUrl() + "/stocks/ork-ol");
+
+        Assert.assertEquals(3, tables.size());
+        Assert.assertEquals("ORK.OL", tables.get(0).get("Symbols"));
+        Assert.assertEquals("Orkla ASA", tables.get(0).get("Description"));
+        Assert.assertEquals("0.1", tables.get(0).get("Minimum Spread"));
+        Assert.assertEquals("10.00 %", tables.get(1).get("Margin Requirement"));
+        Assert.assertEquals("-0.1", tables.get(1).get("Swap Value in Margin Currency Long"));
+        // The single-cell note row has no value and is skipped
+        Assert.assertEquals(1, tables.get(2).size());
+    }
+
+    @Test
+    public void skipsHiddenCellsAndDecodesEntities() {
+        String html = "<div class=\"header\"><table><tr><td>Outside</td><td>1</td></tr></table></div>"
+                + "<div class=\"container\"><div><table>"
+                + "<tr><td>Minimum/Maximum&nbsp;Trade Size</td><td>1 &amp;\n 5000</td></tr>"
+                + "<tr><td style=\"display: none\">Hidden</td><td>2</td></tr>"
+                + "<tr><td><span>Limit</span> and Stop Levels<td>0.20"
+                + "</table></div></div>";
+
+        List<Map<String, String>> tables = HttpTradingConditions.parse(html);
+
+        Assert.assertEquals(1, tables.size());
+        Assert.assertEquals("1 & 5000", tables.get(0).get("Minimum/Maximum Trade Size"));
+        Assert.assertEquals("0.20", tables.get(0).get("Limit and Stop Levels"));
+        Assert.assertFalse(tables.get(0).containsKey("Hidden"));
+        Assert.assertFalse(tables.get(0).containsKey("Outside"));
+    }
+
+    @Test
+    public void keepsEntitiesThatCannotBeDecoded() {
+        String html = "<div class=\"container\"><table>"
+                + "<tr><td>Description</td><td>Orkla &#99999999999; &#xFFFFFFFF; &#x41;</td></tr>"
+                + "</table></div>";
+
+        List<Map<String, String>> tables = HttpTradingConditions.parse(html);
+
+        Assert.assertEquals("Orkla &#99999999999; &#xFFFFFFFF; A", tables.get(0).get("Description"));
+    }
+
+    @Test
+    public void findsNoTablesInAClientRenderedPage() {
+        String html = "<div class=\"container\"><div id=\"app\"></div></div>"
+                + "<script>document.getElementById('app').innerHTML = '<table><tr><td>Symbols</td><td>ORK.OL</td></tr></table>';</script>";
+
+        Assert.assertTrue(HttpTradingConditions.parse(html).isEmpty());
+        Assert.assertTrue(HttpTradingConditions.fetch(server.baseUrl() + "/stocks/unknown").isEmpty());
+    }
+}
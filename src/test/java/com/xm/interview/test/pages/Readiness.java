@@ -0,0 +1,166 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.metrics.PageLoadTimes;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Readiness class waits for the signals a step actually depends on, such as "the filter button has class active"
+ * or "the table was redrawn", instead of waiting for every subresource of the page to load.
+ * <p>
+ * All signals of a wait are evaluated in the browser in a single script call per poll, with the polling of
+ * {@link AdaptiveWait}.
+ */
+public class Readiness {
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Returns the index of the first signal that does not hold yet, or -1 when all of them hold.
+     */
+    private static final String SIGNALS_SCRIPT =
+            "var signals = arguments[0];" +
+            "function find(selector) { return document.querySelector(selector); }" +
+            "function isVisible(el) { return !!el && !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length); }" +
+            CommonPages.TABLE_REDRAWN_FUNCTION +
+            "for (var i = 0; i < signals.length; i++) {" +
+            "  var s = signals[i], ok = false, el;" +
+            "  switch (s.type) {" +
+            "    case 'domReady': ok = document.readyState !== 'loading'; break;" +
+            "    case 'urlMatches': ok = new RegExp(s.value).test(location.href); break;" +
+            "    case 'titleContains': ok = document.title.indexOf(s.value) >= 0; break;" +
+            "    case 'visible': ok = isVisible(find(s.selector)); break;" +
+            "    case 'hasClass': el = find(s.selector); ok = !!el && el.classList.contains(s.value); break;" +
+            "    case 'textMatches': el = find(s.selector); ok = !!el && new RegExp(s.value).test(el.textContent); break;" +
+            "    case 'tableRedrawn': ok = tableRedrawn(s.value); break;" +
+            "  }" +
+            "  if (!ok) { return i; }" +
+            "}" +
+            "return -1;";
+
+    private Readiness() {}
+
+    /**
+     * Waits until all the given signals hold, and records the page load time when {@link PageLoadTimes#isEnabled()}.
+     * The page may still be loading when the signals hold, in which case its load time is recorded later.
+     *
+     * @param driver    The WebDriver instance.
+     * @param condition The name of the wait, used for its timeout override and statistics, see {@link AdaptiveWait}.
+     * @param signals   The signals to wait for.
+     */
+    public static void await(WebDriver driver, String condition, Signal... signals) {
+        List<Map<String, String>> encoded = new ArrayList<>();
+        for (Signal signal : signals) {
+            encoded.add(signal.values);
+        }
+        AdaptiveWait.until(driver, condition, DEFAULT_TIMEOUT,
+                webDriver -> ((Number) ((JavascriptExecutor) webDriver).executeScript(SIGNALS_SCRIPT, encoded)).intValue() < 0);
+        if (PageLoadTimes.isEnabled()) {
+            PageLoadTimes.record(driver);
+        }
+    }
+
+    /**
+     * The document has been parsed; unlike a complete page load it does not wait for images, frames or scripts.
+     *
+     * @return The signal.
+     */
+    public static Signal domReady() {
+        return new Signal("domReady", null, null);
+    }
+
+    /**
+     * The URL of the page matches the given regular expression.
+     *
+     * @param regex The regular expression, in JavaScript syntax.
+     * @return The signal.
+     */
+    public static Signal urlMatches(String regex) {
+        return new Signal("urlMatches", null, regex);
+    }
+
+    /**
+     * The title of the page contains the given text.
+     *
+     * @param text The text.
+     * @return The signal.
+     */
+    public static Signal titleContains(String text) {
+        return new Signal("titleContains", null, text);
+    }
+
+    /**
+     * The first element matching the CSS selector is visible.
+     *
+     * @param selector The CSS selector.
+     * @return The signal.
+     */
+    public static Signal visible(String selector) {
+        return new Signal("visible", selector, null);
+    }
+
+    /**
+     * The first element matching the CSS selector has the given class.
+     *
+     * @param selector  The CSS selector.
+     * @param className The class name.
+     * @return The signal.
+     */
+    public static Signal hasClass(String selector, String className) {
+        return new Signal("hasClass", selector, className);
+    }
+
+    /**
+     * The text of the first element matching the CSS selector matches the given regular expression.
+     *
+     * @param selector The CSS selector.
+     * @param regex    The regular expression, in JavaScript syntax.
+     * @return The signal.
+     */
+    public static Signal textMatches(String selector, String regex) {
+        return new Signal("textMatches", selector, regex);
+    }
+
+    /**
+     * The stocks table was redrawn since {@link CommonPages#armTableRedraw} returned the given info text.
+     *
+     * @param previousInfo The info text returned by {@link CommonPages#armTableRedraw}.
+     * @return The signal.
+     */
+    public static Signal tableRedrawn(String previousInfo) {
+        return new Signal("tableRedrawn", null, previousInfo);
+    }
+
+    /**
+     * Escapes the given text for use in a JavaScript regular expression.
+     *
+     * @param text The text.
+     * @return The escaped text.
+     */
+    public static String quote(String text) {
+        return text.replaceAll("[.*+?^${}()|\\[\\]\\\\/]", "\\\\$0");
+    }
+
+    /**
+     * A condition of the page, evaluated in the browser.
+     */
+    public static final class Signal {
+        private final Map<String, String> values = new LinkedHashMap<>();
+
+        private Signal(String type, String selector, String value) {
+            values.put("type", type);
+            values.put("selector", selector);
+            values.put("value", value);
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+}
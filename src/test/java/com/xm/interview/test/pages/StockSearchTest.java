@@ -0,0 +1,54 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.base.WebDriverFactory;
+import com.xm.interview.test.project.Config;
+import com.xm.interview.test.standin.StandInServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The StockSearchTest class verifies, against the stand-in server, that the search box of the stocks table narrows
+ * it to the searched symbol, so {@link CommonPages#findStockDataBySearch} does not fall back to reading every page.
+ */
+public class StockSearchTest {
+    private static StandInServer server;
+    private static WebDriver driver;
+
+    @BeforeClass
+    public static void openStocksPage() {
+        server = StandInServer.start(0, 0, 0);
+        driver = WebDriverFactory.getDriver(System.getProperty("Browser", "chrome"));
+        Assert.assertNotNull("Failed to initialize the WebDriver!", driver);
+        driver.get(server.baseUrl() + "/stocks");
+        CommonPages.applyFilter(driver, Config.country);
+    }
+
+    @AfterClass
+    public static void closeStocksPage() {
+        if (driver != null) {
+            driver.quit();
+        }
+        server.stop();
+    }
+
+    @Test
+    public void searchNarrowsTheTableToTheSymbol() {
+        List<String> headers = CommonPages.extractTableHeaders(driver);
+        CommonPages.filterTable(driver, Config.symbolName);
+        try {
+            List<Map<String, String>> rows = CommonPages.extractTableData(driver, headers);
+
+            Assert.assertNotNull("No row of the narrowed table contains " + Config.symbolName,
+                    CommonPages.findEntry(rows, Config.symbolName));
+            Assert.assertEquals("The narrowed table does not fit on one page", CommonPages.readTotalEntries(driver), rows.size());
+        } finally {
+            CommonPages.filterTable(driver, "");
+        }
+    }
+}
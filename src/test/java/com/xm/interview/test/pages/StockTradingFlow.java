@@ -0,0 +1,101 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.project.Config;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.project.TradingConditionsSource;
+import com.xm.interview.test.project.Viewport;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+import static com.xm.interview.test.metrics.StepTimer.time;
+import static com.xm.interview.test.pages.CommonPages.*;
+import static com.xm.interview.test.pages.MobileResolutionPages.*;
+
+/**
+ * The StockTradingFlow class runs the stock trading scenario: from the home page to the stocks table,
+ * and from the entry of the configured symbol to the comparison with its trading conditions.
+ * The desktop or mobile navigation is picked from the {@link Viewport}.
+ */
+public class StockTradingFlow {
+
+    private StockTradingFlow() {}
+
+    /**
+     * Runs the scenario in the session of the current run context, timing every step.
+     *
+     * @param driver   The WebDriver instance.
+     * @param viewport The viewport to run the scenario at.
+     */
+    public static void run(WebDriver driver, Viewport viewport) {
+        viewport.apply(driver);
+        RunContext.current().setBrowserSize(viewport.toString());
+        System.out.println("Browser Resolution set to: " + viewport);
+
+        time("openHomePage", () -> openPage(driver, Config.websiteURL));
+
+        //Handle cookies popup
+        time("handleCookiesPopup", () -> handleCookiesPopup(driver));
+
+        if (viewport.isMobile()) {
+            //Click on Hamburger Menu
+            time("clickHamburgerMenu", () -> clickHamburgerMenu(driver));
+
+            //Click tab on mobile
+            time("clickTabMobile", () -> clickTabMobile(driver, "trading"));
+
+            //Click on Tab option
+            time("clickMobileTabOption", () -> clickMobileTabOption(driver, "stocks"));
+        } else {
+            //Click on Trading link
+            time("clickTradingLink", () -> clickTradingLink(driver));
+
+            //Check if Trading tab is opened
+            time("checkTradingTabOpened", () -> checkTradingTabOpened(driver));
+
+            //Click on Stocks tab
+            time("clickTabAndVerify", () -> clickTabAndVerify(driver, "stocks"));
+        }
+
+        //Apply country filter
+        time("applyFilter", () -> applyFilter(driver, Config.country));
+
+        //Search for stock data
+        RunContext.current().setEntries(time("findStockData", () -> findStockData(driver, Config.symbolName)));
+
+        //Count the number of entries
+        time("entriesCount", () -> entriesCount(driver));
+
+        //Read trading conditions
+        Map<String, String> tradingData = readTradingConditions(driver);
+
+        //Compare data
+        time("compareData", () -> compareData(tradingData));
+    }
+
+    /**
+     * Reads the trading conditions of the configured symbol, over HTTP with {@link TradingConditionsSource#HTTP}
+     * and from its "Read More" page in the browser otherwise or when the HTTP read finds no tables.
+     *
+     * @param driver The WebDriver instance.
+     * @return A Map of header names to values.
+     */
+    private static Map<String, String> readTradingConditions(WebDriver driver) {
+        if (Config.tradingConditionsSource == TradingConditionsSource.HTTP) {
+            //Fetch trading conditions without the browser
+            Map<String, String> tradingData = time("fetchTradingConditions", () -> fetchTradingConditions(Config.symbolName));
+            if (tradingData != null) {
+                return tradingData;
+            }
+        }
+
+        //Click on Read More link
+        time("navigateToReadMore", () -> navigateToReadMore(driver, Config.symbolName));
+
+        //Scroll down
+        time("scrollDown", () -> scrollDown(driver));
+
+        //Extract trading conditions
+        return time("extractTradingConditions", () -> extractTradingConditions(driver));
+    }
+}
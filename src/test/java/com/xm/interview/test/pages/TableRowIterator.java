@@ -0,0 +1,66 @@
+package com.xm.interview.test.pages;
+
+import com.xm.interview.test.metrics.CommandBudget;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The TableRowIterator class walks the rows of the stocks table lazily: a page is only extracted when the rows of
+ * the previous page have been consumed, and the next page is only requested when more rows are needed.
+ */
+public class TableRowIterator implements Iterator<Map<String, String>> {
+    private final WebDriver driver;
+    private final List<String> headers;
+    private final Deque<Map<String, String>> buffer = new ArrayDeque<>();
+    private boolean started;
+    private boolean exhausted;
+    private int rowsRead;
+
+    /**
+     * Creates an iterator starting at the page currently shown by the table.
+     *
+     * @param driver  The WebDriver instance.
+     * @param headers A list of strings representing the table headers.
+     */
+    public TableRowIterator(WebDriver driver, List<String> headers) {
+        this.driver = driver;
+        this.headers = headers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (buffer.isEmpty() && !exhausted) {
+            if (started && !CommonPages.navigateToNextPage(driver)) {
+                exhausted = true;
+                break;
+            }
+            started = true;
+            buffer.addAll(CommandBudget.check("extractTableData", () -> CommonPages.extractTableData(driver, headers)));
+        }
+        return !buffer.isEmpty();
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in the table");
+        }
+        rowsRead++;
+        return buffer.poll();
+    }
+
+    /**
+     * Returns the number of rows returned so far.
+     *
+     * @return The number of rows read.
+     */
+    public int getRowsRead() {
+        return rowsRead;
+    }
+}
@@ -0,0 +1,51 @@
+package com.xm.interview.test.project;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BatchFile class reads the (country, symbol) pairs verified by a batch run.
+ * <p>
+ * The file holds one pair per line, separated by the first comma, e.g. {@code Norway,Orkla ASA (ORK.OL)}.
+ * Blank lines, lines starting with {@code #} and a {@code country,symbol} header line are skipped.
+ */
+public class BatchFile {
+
+    private BatchFile() {}
+
+    /**
+     * Reads a batch file and groups its symbols by country, in the order the countries first appear.
+     *
+     * @param file The batch file.
+     * @return The symbols to verify per country, without duplicates.
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if a line holds no comma-separated pair
+     */
+    public static Map<String, List<String>> read(Path file) throws IOException {
+        Map<String, List<String>> symbolsByCountry = new LinkedHashMap<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.equalsIgnoreCase("country,symbol")) {
+                continue;
+            }
+            int comma = trimmed.indexOf(',');
+            if (comma <= 0 || comma == trimmed.length() - 1) {
+                throw new IllegalArgumentException("Line " + lineNumber + " of " + file + " is not a country,symbol pair: " + line);
+            }
+            List<String> symbols = symbolsByCountry.computeIfAbsent(trimmed.substring(0, comma).trim(), c -> new ArrayList<>());
+            String symbol = trimmed.substring(comma + 1).trim();
+            if (!symbols.contains(symbol)) {
+                symbols.add(symbol);
+            }
+        }
+        return symbolsByCountry;
+    }
+}
@@ -0,0 +1,26 @@
+package com.xm.interview.test.project;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * The BatchFileTest class verifies that {@link BatchFile} groups the sample batch file by country.
+ */
+public class BatchFileTest {
+
+    @Test
+    public void groupsSymbolsByCountryInFileOrder() throws Exception {
+        Map<String, List<String>> symbolsByCountry = BatchFile.read(
+                Paths.get(BatchFileTest.class.getResource("/batch/sample.csv").toURI()));
+
+        Assert.assertEquals(Arrays.asList("Norway", "Sweden", "Denmark"), Arrays.asList(symbolsByCountry.keySet().toArray()));
+        Assert.assertEquals(Arrays.asList("Orkla ASA (ORK.OL)", "Aker BP ASA (AKRBP.OL)", "Equinor ASA (EQNR.OL)"),
+                symbolsByCountry.get("Norway"));
+    }
+}
@@ -1,16 +1,18 @@
 package com.xm.interview.test.project;
 
-import java.util.Map;
-
 /**
  * The Config class contains static fields that hold configuration values for the application.
+ * Values that change during a run are kept in the {@link RunContext} of the running thread.
  */
 public class Config {
 
-    public static final String websiteURL = "https://www.xm.com";
+    public static final boolean standIn = Boolean.parseBoolean(System.getProperty("StandIn", "false"));
+    public static final String websiteURL = System.getProperty("WebsiteURL",
+            standIn ? "http://localhost:" + Integer.getInteger("StandInPort", 8089) : "https://www.xm.com");
     public static final String symbolName = "Orkla ASA (ORK.OL)";
     public static final String country = "Norway";
-    public static String browserSize;
-    public static Map<String, String> entries;
-    public static int entriesSize;
-}
\ No newline at end of file
+    public static final TableExtraction tableExtraction = TableExtraction.fromSystemProperty();
+    public static final EntrySource entrySource = EntrySource.fromSystemProperty();
+    public static final SymbolLookup symbolLookup = SymbolLookup.fromSystemProperty();
+    public static final TradingConditionsSource tradingConditionsSource = TradingConditionsSource.fromSystemProperty();
+}
@@ -0,0 +1,35 @@
+package com.xm.interview.test.project;
+
+/**
+ * The EntrySource enum lists the ways all entries of the stocks table can be collected.
+ */
+public enum EntrySource {
+    /**
+     * Walks the table one page at a time through the pagination buttons.
+     */
+    PAGES,
+    /**
+     * Uses the page's DataTables instance to show every filtered row at once, falling back to {@link #PAGES}.
+     */
+    DATATABLES_API,
+    /**
+     * Reads every row from the data feed the table is filled from, captured through DevTools network interception
+     * on Chromium browsers, falling back to {@link #PAGES}.
+     */
+    NETWORK_FEED;
+
+    /**
+     * Resolves the entry source from the {@code EntrySource} system property.
+     *
+     * @return The selected source, {@link #PAGES} if the property is not set.
+     * @throws IllegalArgumentException if the property holds an unsupported value
+     */
+    public static EntrySource fromSystemProperty() {
+        String value = System.getProperty("EntrySource", "pages");
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported entry source: " + value);
+        }
+    }
+}
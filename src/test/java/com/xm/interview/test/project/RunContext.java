@@ -0,0 +1,119 @@
+package com.xm.interview.test.project;
+
+import com.xm.interview.test.feed.FeedCapture;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+
+/**
+ * The RunContext class holds the state of a single test run: the WebDriver session and the data extracted from the pages.
+ * Each thread owns its own context, so test classes can run in parallel within the same JVM.
+ */
+public class RunContext {
+    private static final ThreadLocal<RunContext> CURRENT = new ThreadLocal<>();
+
+    private final String browser;
+    private final WebDriver driver;
+    private String browserSize;
+    private Map<String, String> entries;
+    private int entriesSize = -1;
+    private FeedCapture feedCapture;
+
+    private RunContext(String browser, WebDriver driver) {
+        this.browser = browser;
+        this.driver = driver;
+    }
+
+    /**
+     * Creates a new context for the current thread, replacing any previous one.
+     *
+     * @param browser The browser type the driver was created for.
+     * @param driver  The WebDriver instance used by the run.
+     * @return The new context.
+     */
+    public static RunContext open(String browser, WebDriver driver) {
+        RunContext context = new RunContext(browser, driver);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Returns the context of the current thread.
+     *
+     * @return The current context.
+     * @throws IllegalStateException if no context was opened on this thread
+     */
+    public static RunContext current() {
+        RunContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No run context is open on thread " + Thread.currentThread().getName());
+        }
+        return context;
+    }
+
+    /**
+     * Returns whether a context is open on the current thread.
+     *
+     * @return True if {@link #current()} can be called, false otherwise.
+     */
+    public static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Removes the context of the current thread.
+     */
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public String getBrowserSize() {
+        return browserSize;
+    }
+
+    public void setBrowserSize(String browserSize) {
+        this.browserSize = browserSize;
+    }
+
+    public Map<String, String> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(Map<String, String> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the number of entries collected by a full scrape of the table.
+     *
+     * @return The number of entries, or -1 if the table was not fully scraped in this run.
+     */
+    public int getEntriesSize() {
+        return entriesSize;
+    }
+
+    public void setEntriesSize(int entriesSize) {
+        this.entriesSize = entriesSize;
+    }
+
+    /**
+     * Returns the capture of the table data feed armed for this run.
+     *
+     * @return The capture, or null if {@link EntrySource#NETWORK_FEED} is not used or not supported by the browser.
+     */
+    public FeedCapture getFeedCapture() {
+        return feedCapture;
+    }
+
+    public void setFeedCapture(FeedCapture feedCapture) {
+        this.feedCapture = feedCapture;
+    }
+}
@@ -0,0 +1,35 @@
+package com.xm.interview.test.project;
+
+/**
+ * The SymbolLookup enum lists the ways findStockData can locate a symbol in the stocks table.
+ */
+public enum SymbolLookup {
+    /**
+     * Scrapes every page of the table, then searches the collected entries.
+     */
+    FULL,
+    /**
+     * Extracts the table page by page and stops paginating as soon as the symbol is found.
+     */
+    STREAM,
+    /**
+     * Narrows the table with its search box first and only extracts the matching rows,
+     * falling back to {@link #STREAM} when the search result is unexpected.
+     */
+    SEARCH;
+
+    /**
+     * Resolves the symbol lookup from the {@code SymbolLookup} system property.
+     *
+     * @return The selected lookup, {@link #FULL} if the property is not set.
+     * @throws IllegalArgumentException if the property holds an unsupported value
+     */
+    public static SymbolLookup fromSystemProperty() {
+        String value = System.getProperty("SymbolLookup", "full");
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported symbol lookup: " + value);
+        }
+    }
+}
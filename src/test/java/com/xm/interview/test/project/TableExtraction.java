@@ -0,0 +1,30 @@
+package com.xm.interview.test.project;
+
+/**
+ * The TableExtraction enum lists the strategies available for reading the stocks table out of the page.
+ */
+public enum TableExtraction {
+    /**
+     * Reads every row and cell through individual WebDriver calls.
+     */
+    ELEMENT,
+    /**
+     * Serializes the whole table body inside the browser with a single script call.
+     */
+    SCRIPT;
+
+    /**
+     * Resolves the extraction strategy from the {@code TableExtraction} system property.
+     *
+     * @return The selected strategy, {@link #ELEMENT} if the property is not set.
+     * @throws IllegalArgumentException if the property holds an unsupported value
+     */
+    public static TableExtraction fromSystemProperty() {
+        String value = System.getProperty("TableExtraction", "element");
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported table extraction mode: " + value);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.xm.interview.test.project;
+
+/**
+ * The TradingConditionsSource enum lists the ways the trading conditions of a stock can be read.
+ */
+public enum TradingConditionsSource {
+    /**
+     * Opens the "Read More" page in the browser and reads its tables.
+     */
+    BROWSER,
+    /**
+     * Fetches the "Read More" page over HTTP and parses its tables without the browser,
+     * falling back to {@link #BROWSER} when the tables are rendered client-side.
+     */
+    HTTP;
+
+    /**
+     * Resolves the trading conditions source from the {@code TradingConditionsSource} system property.
+     *
+     * @return The selected source, {@link #BROWSER} if the property is not set.
+     * @throws IllegalArgumentException if the property holds an unsupported value
+     */
+    public static TradingConditionsSource fromSystemProperty() {
+        String value = System.getProperty("TradingConditionsSource", "browser");
+        try {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported trading conditions source: " + value);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.xm.interview.test.project;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The Viewport class describes the browser window size a test flow runs at, either maximized or a fixed size.
+ * Windows narrower than {@link #MOBILE_BREAKPOINT} get the mobile layout of the site, with the hamburger menu.
+ */
+public class Viewport {
+    /**
+     * The window width below which the site switches to its mobile navigation.
+     */
+    public static final int MOBILE_BREAKPOINT = 1000;
+
+    public static final Viewport MAX = new Viewport(0, 0);
+    public static final Viewport MEDIUM = new Viewport(1024, 768);
+    public static final Viewport SMALL = new Viewport(800, 600);
+
+    private final int width;
+    private final int height;
+
+    private Viewport(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Parses a viewport, either {@code max} or a size such as {@code 1024x768} or {@code 1024,768}.
+     *
+     * @param value The viewport to parse.
+     * @return The viewport.
+     * @throws IllegalArgumentException if the value is not a valid viewport
+     */
+    public static Viewport parse(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if (trimmed.equals("max")) {
+            return MAX;
+        }
+        String[] size = trimmed.split("[x,]");
+        try {
+            if (size.length == 2) {
+                int width = Integer.parseInt(size[0].trim());
+                int height = Integer.parseInt(size[1].trim());
+                if (width > 0 && height > 0) {
+                    return new Viewport(width, height);
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Unsupported viewport: " + value);
+    }
+
+    /**
+     * Resolves the viewports from the {@code Viewports} system property, a list such as {@code max,1024x768,800x600}.
+     * Separate the list with semicolons to write sizes as {@code 1024,768}.
+     *
+     * @return The selected viewports, max, 1024x768 and 800x600 if the property is not set.
+     */
+    public static List<Viewport> fromSystemProperty() {
+        String value = System.getProperty("Viewports", "max,1024x768,800x600");
+        List<Viewport> viewports = new ArrayList<>();
+        for (String viewport : value.split(value.contains(";") ? ";" : ",")) {
+            if (!viewport.trim().isEmpty()) {
+                viewports.add(parse(viewport));
+            }
+        }
+        return viewports;
+    }
+
+    /**
+     * Resizes the browser window of the given session to this viewport.
+     *
+     * @param driver The WebDriver instance.
+     */
+    public void apply(WebDriver driver) {
+        if (isMax()) {
+            driver.manage().window().maximize();
+        } else {
+            driver.manage().window().setSize(new Dimension(width, height));
+        }
+    }
+
+    public boolean isMax() {
+        return width == 0;
+    }
+
+    /**
+     * Returns whether the site shows its mobile navigation at this viewport.
+     *
+     * @return True if the window is narrower than {@link #MOBILE_BREAKPOINT}, false otherwise.
+     */
+    public boolean isMobile() {
+        return !isMax() && width < MOBILE_BREAKPOINT;
+    }
+
+    /**
+     * Returns the label the viewport is reported with, e.g. {@code max} or {@code 1024,768}.
+     *
+     * @return The label.
+     */
+    @Override
+    public String toString() {
+        return isMax() ? "max" : width + "," + height;
+    }
+}
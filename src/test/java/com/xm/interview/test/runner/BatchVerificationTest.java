@@ -0,0 +1,189 @@
+package com.xm.interview.test.runner;
+
+import com.xm.interview.test.base.BaseTest;
+import com.xm.interview.test.compare.ComparisonReport;
+import com.xm.interview.test.pages.Readiness;
+import com.xm.interview.test.project.BatchFile;
+import com.xm.interview.test.project.Config;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.project.TradingConditionsSource;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runners.model.Statement;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.xm.interview.test.metrics.StepTimer.time;
+import static com.xm.interview.test.pages.CommonPages.*;
+
+
+/**
+ * The BatchVerificationTest class verifies the trading conditions of many symbols in a single browser session.
+ * <p>
+ * The (country, symbol) pairs are read from the file given with {@code -DBatchFile}, see {@link BatchFile}.
+ * The stocks page is opened once, every country table is scraped once, and the "Read More" page of each symbol
+ * is then compared with its table entry. The results are written to {@code results.csv} under
+ * {@code -DBatchResultDir}, {@code target/batch} by default. A symbol that cannot be verified is recorded with
+ * status ERROR and the run continues with the next one. The test is skipped when no batch file is given.
+ */
+public class BatchVerificationTest extends BaseTest {
+    private static final String BATCH_FILE = System.getProperty("BatchFile");
+
+    /**
+     * Skips the class, before a browser is launched, when no batch file is given.
+     */
+    @ClassRule
+    public static final TestRule requiresBatchFile = (base, description) -> new Statement() {
+        @Override
+        public void evaluate() throws Throwable {
+            Assume.assumeTrue("No -DBatchFile given", BATCH_FILE != null);
+            base.evaluate();
+        }
+    };
+
+    /**
+     * This method verifies every symbol of the batch file and writes the consolidated results.
+     *
+     * @throws IOException If the batch file cannot be read or the results cannot be written.
+     */
+    @Test
+    public void verifyBatch() throws IOException {
+        Map<String, List<String>> symbolsByCountry = BatchFile.read(Paths.get(BATCH_FILE));
+        List<String[]> results = new ArrayList<>();
+
+        RunContext.current().setBrowserSize("max");
+        driver.manage().window().maximize();
+        System.out.println("Browser Resolution set to: max");
+
+        time("openHomePage", () -> openPage(driver, Config.websiteURL));
+        time("handleCookiesPopup", () -> handleCookiesPopup(driver));
+        time("clickTradingLink", () -> clickTradingLink(driver));
+        time("checkTradingTabOpened", () -> checkTradingTabOpened(driver));
+        time("clickTabAndVerify", () -> clickTabAndVerify(driver, "stocks"));
+        String stocksUrl = driver.getCurrentUrl();
+
+        try {
+            for (Map.Entry<String, List<String>> country : symbolsByCountry.entrySet()) {
+                List<Map<String, String>> entries;
+                try {
+                    restoreStocksPage(stocksUrl);
+                    time("applyFilter", () -> applyFilter(driver, country.getKey()));
+                    entries = time("getAllEntries", () -> getAllEntries(driver));
+                } catch (RuntimeException | AssertionError e) {
+                    System.out.println("Failed to read the stocks of " + country.getKey() + ": " + describeError(e));
+                    for (String symbol : country.getValue()) {
+                        results.add(new String[]{country.getKey(), symbol, "ERROR", "0", "0", "0", describeError(e)});
+                    }
+                    continue;
+                }
+
+                for (String symbol : country.getValue()) {
+                    try {
+                        results.add(verifySymbol(country.getKey(), symbol, entries));
+                    } catch (RuntimeException | AssertionError e) {
+                        System.out.println("Failed to verify " + symbol + ": " + describeError(e));
+                        results.add(new String[]{country.getKey(), symbol, "ERROR", "0", "0", "0", describeError(e)});
+                        restoreStocksPage(stocksUrl);
+                    }
+                }
+            }
+        } finally {
+            Path resultsFile = writeResults(results);
+            System.out.println("Batch results written to " + resultsFile.toAbsolutePath());
+            System.out.println("---------------------------------------------------");
+        }
+
+        List<String> failed = new ArrayList<>();
+        for (String[] result : results) {
+            if (!"PASS".equals(result[2])) {
+                failed.add(result[1] + " (" + result[2] + ")");
+            }
+        }
+        Assert.assertTrue("Symbols failing verification: " + failed, failed.isEmpty());
+    }
+
+    /**
+     * Compares the table entry of a symbol with its trading conditions.
+     *
+     * @param country The country the symbol is listed under.
+     * @param symbol  The symbol to verify.
+     * @param entries The scraped entries of the country.
+     * @return The result row of the symbol.
+     */
+    private String[] verifySymbol(String country, String symbol, List<Map<String, String>> entries) {
+        Map<String, String> entry = findEntry(entries, symbol);
+        if (entry == null) {
+            System.out.println("Stock data not found for symbol: " + symbol);
+            return new String[]{country, symbol, "NOT_FOUND", "0", "0", "0", ""};
+        }
+        RunContext.current().setEntries(entry);
+        Map<String, String> tradingData = Config.tradingConditionsSource == TradingConditionsSource.HTTP
+                ? time("fetchTradingConditions", () -> fetchTradingConditions(symbol))
+                : null;
+        if (tradingData == null) {
+            time("navigateToReadMore", () -> navigateToReadMore(driver, symbol));
+            tradingData = time("extractTradingConditions", () -> extractTradingConditions(driver));
+        }
+        Map<String, String> conditions = tradingData;
+        ComparisonReport report = time("compareData", () -> compareData(symbol, entry, conditions));
+        return new String[]{country, symbol, report.isConsistent() ? "PASS" : "FAIL",
+                String.valueOf(report.getMatches().size()), String.valueOf(report.getMismatches().size()),
+                String.valueOf(report.getMissing().size()), describeMismatches(report)};
+    }
+
+    /**
+     * Returns to the stocks page when a read-more page or a failure left it, directly instead of through the menu.
+     *
+     * @param stocksUrl The URL of the stocks page.
+     */
+    private void restoreStocksPage(String stocksUrl) {
+        if (!stocksUrl.equals(driver.getCurrentUrl())) {
+            driver.navigate().to(stocksUrl);
+            Readiness.await(driver, "stocksPage", Readiness.visible("#DataTables_Table_0"));
+        }
+    }
+
+    private static String describeError(Throwable error) {
+        String message = String.valueOf(error.getMessage());
+        int lineEnd = message.indexOf('\n');
+        return error.getClass().getSimpleName() + ": " + (lineEnd >= 0 ? message.substring(0, lineEnd) : message).trim();
+    }
+
+    private static String describeMismatches(ComparisonReport report) {
+        List<String> details = new ArrayList<>();
+        for (ComparisonReport.Mismatch mismatch : report.getMismatches()) {
+            details.add(mismatch.getColumn() + "=" + mismatch.getTableValue() + " vs " + mismatch.getConditionKey() + "=" + mismatch.getConditionValue());
+        }
+        return String.join("; ", details);
+    }
+
+    private static Path writeResults(List<String[]> results) throws IOException {
+        Path directory = Paths.get(System.getProperty("BatchResultDir", "target/batch"));
+        Files.createDirectories(directory);
+        Path resultsFile = directory.resolve("results.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8)) {
+            writer.write("country,symbol,status,matches,mismatches,missing,details");
+            writer.newLine();
+            for (String[] result : results) {
+                List<String> cells = new ArrayList<>();
+                for (String cell : result) {
+                    cells.add(cell.contains(",") || cell.contains("\"") ? "\"" + cell.replace("\"", "\"\"") + "\"" : cell);
+                }
+                writer.write(String.join(",", cells));
+                writer.newLine();
+            }
+        }
+        return resultsFile;
+    }
+}
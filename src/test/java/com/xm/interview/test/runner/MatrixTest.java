@@ -0,0 +1,117 @@
+package com.xm.interview.test.runner;
+
+import com.xm.interview.test.base.BaseTest;
+import com.xm.interview.test.pages.StockTradingFlow;
+import com.xm.interview.test.project.RunContext;
+import com.xm.interview.test.project.Viewport;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+
+/**
+ * The MatrixTest class runs the {@link StockTradingFlow} for every combination of browser and viewport on a bounded
+ * thread pool, and reports the wall time of the matrix and the summed durations of its combinations. As combinations
+ * running side by side slow each other down, the serial baseline is the wall time of a run with {@code MatrixThreads=1}.
+ * <p>
+ * The matrix is enabled with {@code -DMatrix=true}. The browsers are read from the comma-separated {@code Browsers}
+ * system property, defaulting to {@code Browser}, and the viewports from {@code Viewports}, see {@link Viewport}.
+ * The pool is sized to the available cores and to the free memory divided by {@code MatrixBrowserMemoryMb}
+ * (512 by default), and can be capped with {@code MatrixThreads}.
+ */
+public class MatrixTest {
+    /**
+     * This method runs the matrix and fails if any combination failed.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting for the combinations.
+     */
+    @Test
+    public void runMatrix() throws InterruptedException {
+        Assume.assumeTrue("Matrix runs are enabled with -DMatrix=true", Boolean.parseBoolean(System.getProperty("Matrix", "false")));
+
+        List<String> browsers = Arrays.stream(System.getProperty("Browsers", System.getProperty("Browser", "chrome")).split(","))
+                .map(String::trim).filter(b -> !b.isEmpty()).collect(Collectors.toList());
+        List<Viewport> viewports = Viewport.fromSystemProperty();
+        int combinations = browsers.size() * viewports.size();
+        int threads = poolSize(combinations);
+        System.out.println("Running " + combinations + " combinations on " + threads + " threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Map<String, Future<Long>> runs = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        for (String browser : browsers) {
+            for (Viewport viewport : viewports) {
+                runs.put(browser + " @ " + viewport, executor.submit(() -> runCombination(browser, viewport)));
+            }
+        }
+        executor.shutdown();
+
+        long summedNanos = 0;
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, Future<Long>> run : runs.entrySet()) {
+            try {
+                long nanos = run.getValue().get();
+                summedNanos += nanos;
+                System.out.println("  " + run.getKey() + ": " + nanos / 1_000_000 + " ms");
+            } catch (ExecutionException e) {
+                failed.add(run.getKey() + ": " + e.getCause());
+                System.out.println("  " + run.getKey() + ": failed, " + e.getCause());
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        // Combinations running side by side slow each other down, so their summed durations overstate a serial run;
+        // the wall time of a run with -DMatrixThreads=1 is the serial baseline to compare against
+        System.out.println("Matrix wall time on " + threads + (threads == 1 ? " thread (serial baseline): " : " threads: ")
+                + wallNanos / 1_000_000 + " ms, sum of concurrent durations: " + summedNanos / 1_000_000 + " ms");
+        System.out.println("---------------------------------------------------");
+        Assert.assertTrue("Failed combinations: " + failed, failed.isEmpty());
+    }
+
+    /**
+     * Runs the flow for one combination in its own session and run context.
+     *
+     * @return The duration of the combination in nanoseconds, including the browser launch.
+     */
+    private static long runCombination(String browser, Viewport viewport) {
+        long start = System.nanoTime();
+        BaseTest.openRun(browser);
+        try {
+            StockTradingFlow.run(RunContext.current().getDriver(), viewport);
+        } finally {
+            BaseTest.closeRun();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Sizes the pool so the machine runs no more browsers than it has cores and free memory for,
+     * or cores only when the JVM does not report the free memory.
+     */
+    private static int poolSize(int combinations) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        long browserMemory = Long.getLong("MatrixBrowserMemoryMb", 512) * 1024 * 1024;
+        int byMemory = cores;
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        // The free memory is only reported by JVMs providing the com.sun.management extension
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            long freeMemory = ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize();
+            byMemory = (int) Math.max(1, freeMemory / browserMemory);
+        }
+        int limit = Integer.getInteger("MatrixThreads", Integer.MAX_VALUE);
+        return Math.max(1, Math.min(Math.min(combinations, limit), Math.min(cores, byMemory)));
+    }
+}
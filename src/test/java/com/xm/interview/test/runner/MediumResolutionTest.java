@@ -1,11 +1,9 @@
 package com.xm.interview.test.runner;
 
-import com.xm.interview.test.project.Config;
 import com.xm.interview.test.base.BaseTest;
+import com.xm.interview.test.pages.StockTradingFlow;
+import com.xm.interview.test.project.Viewport;
 import org.junit.Test;
-import static com.xm.interview.test.pages.CommonPages.*;
-
-import java.util.Map;
 
 
 /**
@@ -21,45 +19,6 @@ public class MediumResolutionTest extends BaseTest {
      */
     @Test
     public void stockTesting() throws InterruptedException {
-
-            driver.manage().window().setSize(new org.openqa.selenium.Dimension(1024, 768));
-            Config.browserSize = "1024,768";
-            System.out.println("Browser Resolution set to: 1024,768");
-
-            driver.get(Config.websiteURL);
-
-        //Handle cookies popup
-        handleCookiesPopup(driver);
-
-        //Click on Trading link
-        clickTradingLink(driver);
-
-        //Check if Trading tab is opened
-        checkTradingTabOpened(driver);
-
-        //Click on Stocks tab
-        clickTabAndVerify(driver, "stocks");
-
-        //Apply country filter
-        applyFilter(driver, Config.country);
-
-        //Search for stock data
-        Config.entries = findStockData(driver, Config.symbolName);
-
-        //Count the number of entries
-        entriesCount(driver);
-
-        //Click on Read More link
-        navigateToReadMore(driver, Config.symbolName);
-
-        //Scroll down
-        scrollDown(driver);
-
-        //Extract trading conditions
-        Map<String, String> tradingData = extractTradingConditions(driver);
-
-        //Compare data
-        compareData(tradingData);
-        }
-
-    }
\ No newline at end of file
+        StockTradingFlow.run(driver, Viewport.MEDIUM);
+    }
+}
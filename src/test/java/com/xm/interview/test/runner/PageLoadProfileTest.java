@@ -0,0 +1,54 @@
+package com.xm.interview.test.runner;
+
+import com.xm.interview.test.base.BrowserProfile;
+import com.xm.interview.test.base.WebDriverFactory;
+import com.xm.interview.test.project.Config;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+
+/**
+ * The PageLoadProfileTest class loads the home page once with each {@link BrowserProfile}
+ * and reports the page-load time of every profile side by side.
+ * <p>
+ * The comparison launches a browser per profile, so it only runs when enabled with {@code -DPageLoadProfile=true}.
+ */
+public class PageLoadProfileTest {
+    /**
+     * This method loads the home page with the default and the performance profile and prints the timings.
+     */
+    @Test
+    public void comparePageLoadTime() {
+        Assume.assumeTrue("Page load profile comparisons are enabled with -DPageLoadProfile=true",
+                Boolean.parseBoolean(System.getProperty("PageLoadProfile", "false")));
+
+        String browserDriver = System.getProperty("Browser", "chrome");
+        Map<BrowserProfile, Long> loadTimes = new EnumMap<>(BrowserProfile.class);
+
+        for (BrowserProfile profile : BrowserProfile.values()) {
+            WebDriver driver = WebDriverFactory.getDriver(browserDriver, profile);
+            Assert.assertNotNull("Failed to initialize the WebDriver for profile " + profile, driver);
+            try {
+                long start = System.nanoTime();
+                driver.get(Config.websiteURL);
+                long wallMillis = (System.nanoTime() - start) / 1_000_000;
+                Object domReadyMillis = ((JavascriptExecutor) driver).executeScript(
+                        "var t = performance.timing; return t.domContentLoadedEventEnd - t.navigationStart;");
+                loadTimes.put(profile, wallMillis);
+                System.out.println("Profile " + profile + ": page load " + wallMillis + " ms, DOM ready " + domReadyMillis + " ms");
+            } finally {
+                driver.quit();
+            }
+        }
+
+        System.out.println("Page load time with the performance profile on: " + loadTimes.get(BrowserProfile.PERFORMANCE)
+                + " ms, off: " + loadTimes.get(BrowserProfile.DEFAULT) + " ms");
+        System.out.println("---------------------------------------------------");
+    }
+}
@@ -0,0 +1,224 @@
+package com.xm.interview.test.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * The StandInServer class serves local copies of the xm.com pages used by the tests (home, trading, stocks with
+ * its DataTables markup and country filters, and the trading-conditions page of every stock), so the suite can
+ * run offline and with repeatable timings.
+ * <p>
+ * Every response can be delayed by a fixed latency and throttled to a given bandwidth, to benchmark extraction
+ * and wait strategies under controlled network conditions.
+ */
+public class StandInServer {
+    private static final Logger logger = Logger.getLogger(StandInServer.class.getName());
+    private static final String RESOURCE_ROOT = "/standin/";
+    private static final int CHUNK_SIZE = 1024;
+
+    private static StandInServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final int bandwidthKbps;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Map<String, Map<String, Object>> stocksBySlug = new HashMap<>();
+
+    private StandInServer(int port, long latencyMillis, int bandwidthKbps) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.bandwidthKbps = bandwidthKbps;
+        loadStocks();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stand-in-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Starts a stand-in server.
+     *
+     * @param port          The port to listen on, or 0 to pick a free port.
+     * @param latencyMillis The delay added before every response, in milliseconds.
+     * @param bandwidthKbps The bandwidth responses are throttled to, in kilobits per second, or 0 for no limit.
+     * @return The running server.
+     * @throws IllegalStateException if the server cannot be started
+     */
+    public static StandInServer start(int port, long latencyMillis, int bandwidthKbps) {
+        try {
+            StandInServer standIn = new StandInServer(port, latencyMillis, bandwidthKbps);
+            System.out.println("Stand-in server started at " + standIn.baseUrl()
+                    + " (latency " + latencyMillis + " ms, bandwidth " + (bandwidthKbps > 0 ? bandwidthKbps + " kbps" : "unlimited") + ")");
+            return standIn;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start the stand-in server on port " + port, e);
+        }
+    }
+
+    /**
+     * Returns the server shared by the tests of this JVM, starting it on first use with the
+     * {@code StandInPort}, {@code StandInLatencyMs} and {@code StandInBandwidthKbps} system properties.
+     *
+     * @return The shared server.
+     */
+    public static synchronized StandInServer shared() {
+        if (shared == null) {
+            shared = start(Integer.getInteger("StandInPort", 8089),
+                    Long.getLong("StandInLatencyMs", 0),
+                    Integer.getInteger("StandInBandwidthKbps", 0));
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop));
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the base URL of the server, without a trailing slash.
+     *
+     * @return The base URL.
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of requests served so far.
+     *
+     * @return The request count.
+     */
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body;
+            String contentType = "text/html; charset=UTF-8";
+            int status = 200;
+
+            if (path.equals("/")) {
+                body = resource("home.html");
+            } else if (path.equals("/trading")) {
+                body = resource("trading.html");
+            } else if (path.equals("/stocks")) {
+                body = resource("stocks.html");
+            } else if (path.startsWith("/stocks/") && stocksBySlug.containsKey(path.substring("/stocks/".length()))) {
+                body = readMorePage(stocksBySlug.get(path.substring("/stocks/".length())));
+            } else if (path.equals("/data/stocks.json")) {
+                body = resource("data/stocks.json");
+                contentType = "application/json; charset=UTF-8";
+            } else if (path.startsWith("/static/") && !path.contains("..") && resourceExists(path.substring(1))) {
+                body = resource(path.substring(1));
+                contentType = path.endsWith(".css") ? "text/css" : "application/javascript";
+            } else {
+                body = "Not found".getBytes(StandardCharsets.UTF_8);
+                contentType = "text/plain; charset=UTF-8";
+                status = 404;
+            }
+
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                write(out, body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void write(OutputStream out, byte[] body) throws IOException, InterruptedException {
+        if (bandwidthKbps <= 0) {
+            out.write(body);
+            return;
+        }
+        long chunkMillis = Math.max(1, CHUNK_SIZE * 8L / bandwidthKbps);
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            out.write(body, offset, Math.min(CHUNK_SIZE, body.length - offset));
+            out.flush();
+            Thread.sleep(chunkMillis);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadStocks() throws IOException {
+        String json = new String(resource("data/stocks.json"), StandardCharsets.UTF_8);
+        Map<String, Object> document = new Json().toType(json, Json.MAP_TYPE);
+        for (Object row : (List<Object>) document.get("data")) {
+            Map<String, Object> stock = (Map<String, Object>) row;
+            stocksBySlug.put(String.valueOf(stock.get("slug")), stock);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] readMorePage(Map<String, Object> stock) throws IOException {
+        Map<String, Object> values = new HashMap<>(stock);
+        Object conditions = stock.get("conditions");
+        if (conditions instanceof Map) {
+            values.putAll((Map<String, Object>) conditions);
+        }
+        String page = new String(resource("read-more.html"), StandardCharsets.UTF_8);
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            page = page.replace("{{" + value.getKey() + "}}", escape(String.valueOf(value.getValue())));
+        }
+        return page.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static boolean resourceExists(String name) {
+        return StandInServer.class.getResource(RESOURCE_ROOT + name) != null;
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = StandInServer.class.getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (in == null) {
+                logger.severe("Missing stand-in resource: " + name);
+                throw new IOException("Missing stand-in resource: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.xm.interview.test.standin;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * The StandInServerTest class verifies that the stand-in server serves the pages used by the tests.
+ */
+public class StandInServerTest {
+    private static StandInServer server;
+
+    @BeforeClass
+    public static void startServer() {
+        server = StandInServer.start(0, 0, 0);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void servesStocksPageWithDataTablesMarkup() throws IOException {
+        String page = get(server, "/stocks");
+
+        Assert.assertTrue(page.contains("id=\"DataTables_Table_0\""));
+        Assert.assertTrue(page.contains("data-value=\"Norway\""));
+        Assert.assertTrue(page.contains("main_nav_trading selected"));
+    }
+
+    @Test
+    public void rendersTradingConditionsOfAStock() throws IOException {
+        String page = get(server, "/stocks/ork-ol");
+
+        Assert.assertTrue(page.contains("<div class=\"container\">"));
+        Assert.assertTrue(page.contains("<td><strong>Symbols</strong></td><td>ORK.OL</td>"));
+        Assert.assertTrue(page.contains("Orkla ASA"));
+    }
+
+    @Test
+    public void returnsNotFoundForUnknownPages() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(server.baseUrl() + "/unknown").openConnection();
+
+        Assert.assertEquals(404, connection.getResponseCode());
+    }
+
+    @Test
+    public void injectsLatency() throws IOException {
+        StandInServer slowServer = StandInServer.start(0, 200, 0);
+        try {
+            long start = System.nanoTime();
+            get(slowServer, "/");
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            Assert.assertTrue("Expected at least 200 ms, got " + elapsedMillis + " ms", elapsedMillis >= 200);
+        } finally {
+            slowServer.stop();
+        }
+    }
+
+    private static String get(StandInServer target, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(target.baseUrl() + path).openConnection();
+        Assert.assertEquals(200, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
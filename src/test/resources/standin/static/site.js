@@ -0,0 +1,30 @@
+(function () {
+    var banner = document.querySelector('.cookie-modal');
+    if (banner) {
+        var accepted = document.cookie.indexOf('xm_cookie_consent=accepted') >= 0
+            || window.localStorage.getItem('xm_cookie_consent') === 'accepted';
+        if (accepted) {
+            banner.parentNode.removeChild(banner);
+        } else {
+            banner.querySelector('.acceptDefaultCookieFirstVisit').addEventListener('click', function () {
+                document.cookie = 'xm_cookie_consent=accepted; path=/; max-age=31536000';
+                window.localStorage.setItem('xm_cookie_consent', 'accepted');
+                banner.classList.add('hidden');
+            });
+        }
+    }
+
+    var hamburger = document.querySelector('.toggleLeftNav');
+    if (hamburger) {
+        hamburger.addEventListener('click', function () {
+            document.getElementById('leftNav').classList.toggle('open');
+        });
+    }
+
+    var toggles = document.querySelectorAll('.navbar-nav__toggleArrow');
+    for (var i = 0; i < toggles.length; i++) {
+        toggles[i].addEventListener('click', function () {
+            document.getElementById(this.getAttribute('aria-controls')).classList.toggle('open');
+        });
+    }
+})();
@@ -0,0 +1,169 @@
+(function () {
+    var PAGE_LENGTH = 10;
+    var COLUMNS = ['minSpread', 'tradeSize', 'margin', 'longSwap', 'shortSwap', 'limitStop'];
+    var table = document.getElementById('DataTables_Table_0');
+    var body = table.tBodies[0];
+    var info = document.getElementById('DataTables_Table_0_info');
+    var previous = document.querySelector('#DataTables_Table_0_paginate .previous');
+    var next = document.querySelector('#DataTables_Table_0_paginate .next');
+    var search = document.querySelector('#DataTables_Table_0_filter input');
+    var filters = document.querySelectorAll('.filters button');
+    var state = {rows: [], country: null, search: '', page: 0};
+
+    function symbolText(row) {
+        return row.description + ' (' + row.symbol + ')';
+    }
+
+    // Searched like DataTables does, against the text the cells are rendered with
+    function rowText(row) {
+        return [symbolText(row)].concat(COLUMNS.map(function (c) { return row[c]; })).join(' ').toLowerCase();
+    }
+
+    function filteredRows() {
+        var words = state.search.toLowerCase().split(/\s+/).filter(function (w) { return w; });
+        return state.rows.filter(function (row) {
+            if (state.country && row.country !== state.country) {
+                return false;
+            }
+            var text = rowText(row);
+            return words.every(function (w) { return text.indexOf(w) >= 0; });
+        });
+    }
+
+    function cell(tr, text, className) {
+        var td = document.createElement('td');
+        td.textContent = text;
+        if (className) {
+            td.className = className;
+        }
+        tr.appendChild(td);
+        return td;
+    }
+
+    function draw() {
+        var rows = filteredRows();
+        var pages = Math.max(1, Math.ceil(rows.length / PAGE_LENGTH));
+        state.page = Math.min(state.page, pages - 1);
+        var start = state.page * PAGE_LENGTH;
+        var end = Math.min(start + PAGE_LENGTH, rows.length);
+
+        var fragment = document.createDocumentFragment();
+        if (!rows.length) {
+            var empty = document.createElement('tr');
+            empty.className = 'odd';
+            var td = cell(empty, 'No matching records found', 'dataTables_empty');
+            td.colSpan = 8;
+            fragment.appendChild(empty);
+        }
+        for (var i = start; i < end; i++) {
+            var row = rows[i];
+            var tr = document.createElement('tr');
+            tr.className = (i - start) % 2 === 0 ? 'odd' : 'even';
+            var symbol = cell(tr, symbolText(row), 'dtr-control');
+            symbol.setAttribute('data-xm-qa-name', 'symbolWithDescription');
+            cell(tr, row.minSpread);
+            for (var c = 1; c < COLUMNS.length; c++) {
+                cell(tr, row[COLUMNS[c]], 'dt-hide');
+            }
+            var linkCell = cell(tr, '', 'dt-hide');
+            var link = document.createElement('a');
+            link.href = '/stocks/' + row.slug;
+            link.textContent = 'Read more';
+            linkCell.appendChild(link);
+            fragment.appendChild(tr);
+        }
+        while (body.firstChild) {
+            body.removeChild(body.firstChild);
+        }
+        body.appendChild(fragment);
+
+        var text = rows.length
+            ? 'Showing ' + (start + 1) + ' to ' + end + ' of ' + rows.length.toLocaleString('en-US') + ' entries'
+            : 'Showing 0 to 0 of 0 entries';
+        if (rows.length !== state.rows.length) {
+            text += ' (filtered from ' + state.rows.length.toLocaleString('en-US') + ' total entries)';
+        }
+        info.textContent = text;
+        previous.className = 'paginate_button previous' + (state.page === 0 ? ' disabled' : '');
+        next.className = 'paginate_button next' + (state.page >= pages - 1 ? ' disabled' : '');
+    }
+
+    function toggleChild(tr) {
+        var sibling = tr.nextElementSibling;
+        if (tr.classList.contains('parent')) {
+            tr.classList.remove('parent');
+            if (sibling && sibling.className === 'child') {
+                body.removeChild(sibling);
+            }
+            return;
+        }
+        var child = document.createElement('tr');
+        child.className = 'child';
+        var td = document.createElement('td');
+        td.colSpan = 8;
+        var list = document.createElement('ul');
+        list.className = 'dtr-details';
+        var headers = table.tHead.rows[0].cells;
+        for (var i = 0; i < tr.cells.length; i++) {
+            if (window.getComputedStyle(tr.cells[i]).display !== 'none') {
+                continue;
+            }
+            var li = document.createElement('li');
+            var title = document.createElement('span');
+            title.className = 'dtr-title';
+            title.textContent = headers[i].textContent;
+            var data = document.createElement('span');
+            data.className = 'dtr-data';
+            data.innerHTML = tr.cells[i].innerHTML;
+            li.appendChild(title);
+            li.appendChild(data);
+            list.appendChild(li);
+        }
+        td.appendChild(list);
+        child.appendChild(td);
+        tr.classList.add('parent');
+        body.insertBefore(child, sibling);
+    }
+
+    body.addEventListener('click', function (event) {
+        var target = event.target.closest('td.dtr-control');
+        if (target && window.getComputedStyle(target, '::before').content !== 'none') {
+            toggleChild(target.parentNode);
+        }
+    });
+    for (var f = 0; f < filters.length; f++) {
+        filters[f].addEventListener('click', function () {
+            for (var j = 0; j < filters.length; j++) {
+                filters[j].classList.toggle('active', filters[j] === this);
+            }
+            state.country = this.getAttribute('data-value');
+            state.page = 0;
+            draw();
+        });
+    }
+    search.addEventListener('input', function () {
+        state.search = search.value;
+        state.page = 0;
+        draw();
+    });
+    previous.addEventListener('click', function () {
+        if (state.page > 0) {
+            state.page--;
+            draw();
+        }
+    });
+    next.addEventListener('click', function () {
+        if (!next.classList.contains('disabled')) {
+            state.page++;
+            draw();
+        }
+    });
+
+    var request = new XMLHttpRequest();
+    request.open('GET', '/data/stocks.json');
+    request.onload = function () {
+        state.rows = JSON.parse(request.responseText).data;
+        draw();
+    };
+    request.send();
+})();